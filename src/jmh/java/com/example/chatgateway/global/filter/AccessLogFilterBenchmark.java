@@ -0,0 +1,62 @@
+package com.example.chatgateway.global.filter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 로깅 비용 비교 (-prof gc의 gc.alloc.rate.norm 확인)
+ * legacyInfoLogs: 기존 AuthFilter의 요청당 INFO 로그(URI, 응답 헤더, 토큰) 재현
+ * accessLog: 샘플링 접근 로그 (sampleRate별)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccessLogFilterBenchmark {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(AuthFilter.class);
+
+    @Param({"0", "0.01", "1"})
+    public double sampleRate;
+
+    private AccessLogFilter accessLogFilter;
+    private GatewayFilterChain chain;
+
+    @Setup
+    public void setUp() {
+        accessLogFilter = new AccessLogFilter(sampleRate, true);
+        chain = exchange -> {
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            return Mono.empty();
+        };
+    }
+
+    @Benchmark
+    public void accessLog() {
+        accessLogFilter.filter(AuthFilterBenchmark.newExchange(), chain).block();
+    }
+
+    @Benchmark
+    public void legacyInfoLogs() {
+        MockServerWebExchange exchange = AuthFilterBenchmark.newExchange();
+        String token = AuthFilterBenchmark.TOKEN;
+
+        log.info("요청이 들어온 경로: {}", exchange.getRequest().getURI().toString());
+        log.info("응답 초기 헤더 확인: {}", exchange.getResponse().getHeaders());
+        log.info("쿠키로부터 추출한 엑세스 토큰: {}", token);
+        log.info("확인된 토큰: {}", token);
+        log.info("추출된 토큰: {} // 아이디: {}", token, "5421343c2a124721");
+        log.info("캐시 존재");
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.chatgateway.global.filter;
+
+import com.example.chatgateway.domain.dto.UserInfoDTO;
+import com.example.chatgateway.domain.entity.UserRoleEnum;
+import com.example.chatgateway.global.auth.AuthPolicy;
+import com.example.chatgateway.global.auth.AuthPolicyMatcher;
+import com.example.chatgateway.global.config.AuthPolicyProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// AuthFilter 단계별 측정 (인증 정책 조회, 쿠키 추출, 헤더 변경) - 핑거프린트는 FingerprintBenchmark 참고
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthFilterStepBenchmark {
+
+    private AuthFilter authFilter;
+    private MockServerWebExchange exchange;
+    private ServerHttpRequest request;
+    private UserInfoDTO userInfo;
+    private AuthPolicyMatcher authPolicyMatcher;
+
+    @Setup
+    public void setUp() {
+        // 단계별 메소드는 의존 객체를 사용하지 않는다
+        authFilter = new AuthFilter(null, null, null, null, null, null, null, null, null);
+        exchange = AuthFilterBenchmark.newExchange();
+        request = exchange.getRequest();
+        userInfo = new UserInfoDTO("a1b2c3", "user@example.com", "ROLE_USER", AuthFilterBenchmark.TOKEN);
+
+        AuthPolicyProperties properties = new AuthPolicyProperties();
+        properties.setRules(List.of(
+                rule("/api/users/login", AuthPolicy.Access.PUBLIC),
+                rule("/api/users/signup", AuthPolicy.Access.PUBLIC),
+                rule("/api/open-chats/admin/**", AuthPolicy.Access.ROLE),
+                rule("/stomp/chat/**", AuthPolicy.Access.AUTHENTICATED)));
+        authPolicyMatcher = new AuthPolicyMatcher(properties);
+    }
+
+    @Benchmark
+    public AuthPolicy matchPolicy() {
+        return authPolicyMatcher.match("chat", "/api/open-chats/1");
+    }
+
+    @Benchmark
+    public String extractToken() {
+        return authFilter.extractTokenFromCookies(request);
+    }
+
+    @Benchmark
+    public ServerWebExchange mutateHeaders() {
+        return authFilter.withUserInfo(exchange, userInfo);
+    }
+
+    private static AuthPolicyProperties.Rule rule(String path, AuthPolicy.Access access) {
+        AuthPolicyProperties.Rule rule = new AuthPolicyProperties.Rule();
+        rule.setPath(path);
+        rule.setAccess(access);
+        if (access == AuthPolicy.Access.ROLE) {
+            rule.setRoles(Set.of(UserRoleEnum.ADMIN));
+        }
+        return rule;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.chatgateway.support;
+
+import com.example.chatgateway.domain.dto.TokenDTO;
+import com.example.chatgateway.domain.dto.UserInfoDTO;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.reactivestreams.Publisher;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.kafka.sender.SenderOptions;
+import reactor.kafka.sender.SenderRecord;
+import reactor.kafka.sender.SenderResult;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+// 벤치마크용 Redis/Kafka 대역 객체 (네트워크 없이 메모리에서 동작)
+public final class StandIns {
+    private StandIns() {
+    }
+
+    // ReactiveRedisOperations 중 AuthFilter가 쓰는 get/set/delete만 구현
+    public static ReactiveRedisOperations<String, UserInfoDTO> userInfoOperations(Map<String, UserInfoDTO> store) {
+        ReactiveValueOperations<String, UserInfoDTO> values = proxy(ReactiveValueOperations.class, (method, args) ->
+                switch (method.getName()) {
+                    case "get" -> Mono.justOrEmpty(store.get((String) args[0]));
+                    case "set" -> {
+                        store.put((String) args[0], (UserInfoDTO) args[1]);
+                        yield Mono.just(Boolean.TRUE);
+                    }
+                    case "delete" -> Mono.just(store.remove((String) args[0]) != null);
+                    default -> throw unsupported(method);
+                });
+
+        return proxy(ReactiveRedisOperations.class, (method, args) ->
+                switch (method.getName()) {
+                    case "opsForValue" -> values;
+                    case "delete" -> {
+                        long deleted = 0;
+                        for (Object key : (Object[]) args[0]) {
+                            if (store.remove((String) key) != null) {
+                                deleted++;
+                            }
+                        }
+                        yield Mono.just(deleted);
+                    }
+                    default -> throw unsupported(method);
+                });
+    }
+
+    // pub/sub 발행은 결과 없이 성공 처리
+    public static ReactiveStringRedisTemplate stringRedisTemplate() {
+        ReactiveRedisConnectionFactory connectionFactory = proxy(ReactiveRedisConnectionFactory.class,
+                (method, args) -> {
+                    throw unsupported(method);
+                });
+
+        return new ReactiveStringRedisTemplate(connectionFactory) {
+            @Override
+            public Mono<Long> convertAndSend(String destination, String message) {
+                return Mono.just(0L);
+            }
+        };
+    }
+
+    // 전송 즉시 성공하고, 인증 인스턴스 역할(responder)을 동기적으로 호출
+    public static ReactiveKafkaProducerTemplate<String, TokenDTO> kafkaTemplate(Consumer<TokenDTO> responder) {
+        Map<String, Object> props = Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:0",
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+
+        return new ReactiveKafkaProducerTemplate<>(SenderOptions.create(props)) {
+            @Override
+            public <T> Flux<SenderResult<T>> send(Publisher<? extends SenderRecord<String, TokenDTO, T>> records) {
+                return Flux.from(records).map(record -> {
+                    responder.accept(record.value());
+                    return success(record.correlationMetadata());
+                });
+            }
+        };
+    }
+
+    private static <T> SenderResult<T> success(T correlationMetadata) {
+        return new SenderResult<>() {
+            @Override
+            public RecordMetadata recordMetadata() {
+                return null;
+            }
+
+            @Override
+            public Exception exception() {
+                return null;
+            }
+
+            @Override
+            public T correlationMetadata() {
+                return correlationMetadata;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?> type, BiFunction<Method, Object[], Object> handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (instance, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(instance);
+                    case "equals" -> instance == args[0];
+                    default -> type.getSimpleName() + " stand-in";
+                };
+            }
+            return handler.apply(method, args);
+        });
+    }
+
+    private static UnsupportedOperationException unsupported(Method method) {
+        return new UnsupportedOperationException(method.getDeclaringClass().getSimpleName() + "." + method.getName());
+    }
+}
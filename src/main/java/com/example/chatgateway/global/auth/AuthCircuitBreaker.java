@@ -0,0 +1,105 @@
+package com.example.chatgateway.global.auth;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 인증 경로 서킷 브레이커
+ * Kafka 전송 오류나 인증 타임아웃이 연속으로 failure-threshold번 발생하면 open-duration 동안 인증 요청을 막는다.
+ * 시간이 지나면 요청 하나만 시험 삼아 통과시키고(half-open) 성공하면 닫고, 실패하면 다시 연다.
+ * 시험 요청이 결과 없이 끝나(취소 등) open-duration이 또 지나면 다음 요청을 새 시험 요청으로 보낸다.
+ */
+@Slf4j
+@Component
+public class AuthCircuitBreaker implements MeterBinder {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    // 상태와 그 상태가 된 시각을 한 번에 CAS로 바꾼다
+    private record Status(State state, long since) {
+    }
+
+    private static final Status CLOSED = new Status(State.CLOSED, 0);
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicReference<Status> status = new AtomicReference<>(CLOSED);
+
+    @Autowired
+    public AuthCircuitBreaker(@Value("${auth.circuit.failure-threshold:20}") int failureThreshold,
+                              @Value("${auth.circuit.open-duration:10s}") Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    AuthCircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public boolean allowRequest() {
+        Status current = status.get();
+        if (current.state() == State.CLOSED) {
+            return true;
+        }
+
+        // 열림(또는 응답 없는 시험 요청) 상태로 open-duration이 지나면 CAS에 성공한 요청 하나만 시험 요청으로 통과
+        long now = nanoClock.getAsLong();
+        if (now - current.since() < openNanos) {
+            return false;
+        }
+        return status.compareAndSet(current, new Status(State.HALF_OPEN, now));
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        if (status.getAndSet(CLOSED).state() != State.CLOSED) {
+            log.info("인증 서킷 닫힘");
+        }
+    }
+
+    public void recordFailure() {
+        Status current = status.get();
+
+        // 시험 요청 실패는 연속 실패 횟수와 상관없이 바로 다시 연다
+        if (current.state() == State.HALF_OPEN) {
+            if (status.compareAndSet(current, new Status(State.OPEN, nanoClock.getAsLong()))) {
+                log.warn("인증 서킷 다시 열림: 시험 요청 실패");
+            }
+            return;
+        }
+
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold
+                && status.compareAndSet(CLOSED, new Status(State.OPEN, nanoClock.getAsLong()))) {
+            log.warn("인증 서킷 열림: 연속 실패 {}회", consecutiveFailures.get());
+        }
+    }
+
+    public boolean isOpen() {
+        return status.get().state() != State.CLOSED;
+    }
+
+    State state() {
+        return status.get().state();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("gateway.auth.circuit.open", this, breaker -> breaker.isOpen() ? 1 : 0)
+                .description("인증 서킷 상태 (1: 열림 또는 시험 요청 중)")
+                .register(registry);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.chatgateway.global.auth;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최근 인증 지연 시간(Kafka 전송 ~ 결과 도착)의 이동 백분위수
+ * 최근 N개 표본을 링 버퍼에 두고, 백분위수는 refresh 간격마다 한 번만 다시 계산한다.
+ */
+public class AuthLatencyTracker {
+
+    private static final long REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final long[] samples;
+    private final double percentile;
+    private final AtomicLong count = new AtomicLong();
+
+    private volatile long cachedNanos;
+    private volatile long computedAt = System.nanoTime() - REFRESH_NANOS;
+
+    public AuthLatencyTracker(int size, double percentile) {
+        this.samples = new long[size];
+        this.percentile = percentile;
+    }
+
+    public void record(long nanos) {
+        samples[(int) (count.getAndIncrement() % samples.length)] = nanos;
+    }
+
+    // 표본이 없으면 0
+    public long percentileNanos() {
+        if (System.nanoTime() - computedAt >= REFRESH_NANOS) {
+            recompute();
+        }
+        return cachedNanos;
+    }
+
+    private synchronized void recompute() {
+        long now = System.nanoTime();
+        if (now - computedAt < REFRESH_NANOS) {
+            return;
+        }
+
+        int size = (int) Math.min(count.get(), samples.length);
+        if (size > 0) {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            cachedNanos = sorted[(int) Math.min(size - 1, Math.floor(percentile * size))];
+        }
+        computedAt = now;
+    }
+}
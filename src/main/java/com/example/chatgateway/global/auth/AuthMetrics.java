@@ -0,0 +1,181 @@
+package com.example.chatgateway.global.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 인증 경로 지표 (/actuator/prometheus)
+ * - gateway.auth.duration: 라우트별 인증 결과(outcome)와 소요 시간
+ * - gateway.auth.redis / gateway.auth.kafka.send: 의존 서비스 지연 시간
+ * - gateway.auth.redis.polls: 결과 대기 중 Redis 대체 조회 횟수
+ * - gateway.auth.results: 인증 결과를 받은 경로(kafka, redis)
+ */
+@Component
+public class AuthMetrics {
+
+    public enum Outcome {
+        LOCAL_HIT, REDIS_HIT, CLAIMS, MISS, TIMEOUT, REJECTED, ERROR, UNAUTHORIZED, FORBIDDEN, RATE_LIMITED;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+    }
+
+    public static final String REJECTED_CIRCUIT_OPEN = "circuit_open";
+    public static final String REJECTED_LIMITER = "limiter";
+
+    private static final String UNKNOWN_ROUTE = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Timer[]> authTimers = new ConcurrentHashMap<>();
+
+    private final Timer redisReadTimer;
+    private final Timer redisWriteTimer;
+    private final Timer kafkaSendSuccessTimer;
+    private final Timer kafkaSendFailureTimer;
+    private final DistributionSummary redisPolls;
+    private final Counter kafkaResults;
+    private final Counter redisResults;
+    private final Counter circuitOpenRejections;
+    private final Counter limiterRejections;
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.redisReadTimer = redisTimer("read");
+        this.redisWriteTimer = redisTimer("write");
+        this.kafkaSendSuccessTimer = kafkaSendTimer("success");
+        this.kafkaSendFailureTimer = kafkaSendTimer("failure");
+        this.redisPolls = DistributionSummary.builder("gateway.auth.redis.polls")
+                .description("인증 결과 대기 중 Redis 조회 횟수")
+                .register(meterRegistry);
+        this.kafkaResults = resultCounter("kafka");
+        this.redisResults = resultCounter("redis");
+        this.circuitOpenRejections = rejectedCounter(REJECTED_CIRCUIT_OPEN);
+        this.limiterRejections = rejectedCounter(REJECTED_LIMITER);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordAuth(ServerWebExchange exchange, Outcome outcome, Timer.Sample sample) {
+        sample.stop(authTimer(routeId(exchange), outcome));
+    }
+
+    // 인증 실패 원인 분류 (타임아웃은 ResponseStatusException의 cause로 감싸져 온다)
+    public void recordAuthFailure(ServerWebExchange exchange, Throwable e, Timer.Sample sample) {
+        Outcome outcome;
+        if (e instanceof TimeoutException || e.getCause() instanceof TimeoutException) {
+            outcome = Outcome.TIMEOUT;
+        } else if (e instanceof ResponseStatusException statusException
+                && statusException.getStatusCode() == HttpStatus.SERVICE_UNAVAILABLE) {
+            outcome = Outcome.REJECTED;
+        } else {
+            outcome = Outcome.ERROR;
+        }
+
+        recordAuth(exchange, outcome, sample);
+    }
+
+    // 서킷 브레이커, 대기열 제한으로 거절된 인증 요청
+    public void recordRejected(String reason) {
+        (REJECTED_CIRCUIT_OPEN.equals(reason) ? circuitOpenRejections : limiterRejections).increment();
+    }
+
+    public <T> Mono<T> timeRedisRead(Mono<T> operation) {
+        return time(operation, redisReadTimer, redisReadTimer);
+    }
+
+    public <T> Mono<T> timeRedisWrite(Mono<T> operation) {
+        return time(operation, redisWriteTimer, redisWriteTimer);
+    }
+
+    public <T> Mono<T> timeKafkaSend(Mono<T> operation) {
+        return time(operation, kafkaSendSuccessTimer, kafkaSendFailureTimer);
+    }
+
+    public void recordRedisPolls(int polls) {
+        redisPolls.record(polls);
+    }
+
+    public void recordKafkaResult() {
+        kafkaResults.increment();
+    }
+
+    public void recordRedisResult() {
+        redisResults.increment();
+    }
+
+    private <T> Mono<T> time(Mono<T> operation, Timer success, Timer failure) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return operation
+                    .doOnSuccess(value -> sample.stop(success))
+                    .doOnError(e -> sample.stop(failure));
+        });
+    }
+
+    private Timer authTimer(String routeId, Outcome outcome) {
+        Timer[] timers = authTimers.computeIfAbsent(routeId, id -> {
+            Timer[] byOutcome = new Timer[Outcome.values().length];
+            for (Outcome value : Outcome.values()) {
+                byOutcome[value.ordinal()] = Timer.builder("gateway.auth.duration")
+                        .description("인증 처리 시간")
+                        .tag("route", id)
+                        .tag("outcome", value.tag)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+            }
+            return byOutcome;
+        });
+
+        return timers[outcome.ordinal()];
+    }
+
+    private Timer redisTimer(String operation) {
+        return Timer.builder("gateway.auth.redis")
+                .description("인증 캐시 Redis 명령 지연 시간")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Timer kafkaSendTimer(String result) {
+        return Timer.builder("gateway.auth.kafka.send")
+                .description("인증 요청 Kafka 전송 지연 시간")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter resultCounter(String source) {
+        return Counter.builder("gateway.auth.results")
+                .description("인증 결과 수신 경로")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    private Counter rejectedCounter(String reason) {
+        return Counter.builder("gateway.auth.rejected")
+                .description("과부하 보호로 거절된 인증 요청")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    public static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : UNKNOWN_ROUTE;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.chatgateway.global.auth;
+
+import com.example.chatgateway.domain.entity.UserRoleEnum;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 경로별 인증 정책
+ * - PUBLIC: 토큰 확인 없이 통과 (핑거프린트 계산도 하지 않는다)
+ * - AUTHENTICATED: 인증된 사용자면 통과
+ * - ROLE: 인증 후 지정한 권한이 있어야 통과 (없으면 403)
+ */
+public final class AuthPolicy {
+
+    public enum Access {
+        PUBLIC, AUTHENTICATED, ROLE
+    }
+
+    public static final AuthPolicy PUBLIC = new AuthPolicy(Access.PUBLIC, Set.of());
+    public static final AuthPolicy AUTHENTICATED = new AuthPolicy(Access.AUTHENTICATED, Set.of());
+
+    private final Access access;
+    // 권한 이름 두 형식(ADMIN, ROLE_ADMIN)을 모두 허용
+    private final Set<String> allowedRoles;
+
+    private AuthPolicy(Access access, Set<String> allowedRoles) {
+        this.access = access;
+        this.allowedRoles = allowedRoles;
+    }
+
+    public static AuthPolicy of(Access access, Collection<UserRoleEnum> roles) {
+        return switch (access) {
+            case PUBLIC -> PUBLIC;
+            case AUTHENTICATED -> AUTHENTICATED;
+            case ROLE -> {
+                if (roles == null || roles.isEmpty()) {
+                    throw new IllegalStateException("ROLE 정책에는 roles가 필요합니다");
+                }
+                Set<String> allowedRoles = new HashSet<>();
+                for (UserRoleEnum role : roles) {
+                    allowedRoles.add(role.name());
+                    allowedRoles.add(role.getRole());
+                }
+                yield new AuthPolicy(access, Set.copyOf(allowedRoles));
+            }
+        };
+    }
+
+    public boolean isPublic() {
+        return access == Access.PUBLIC;
+    }
+
+    public boolean permits(String role) {
+        return access != Access.ROLE || (role != null && allowedRoles.contains(role));
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.chatgateway.global.auth;
+
+import com.example.chatgateway.global.config.AuthPolicyProperties;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 설정된 인증 정책을 시작 시 경로 트라이로 만들어 두고 요청마다 객체 생성 없이 조회한다.
+ * 가장 긴 접두사가 우선이며, 접두사는 경로 구분자('/') 단위로만 일치한다 (/api/users/login은 /api/users/loginx와 불일치).
+ * 일치하는 경로 규칙이 없으면 라우트 기본 정책, 그 다음 전체 기본 정책을 따른다.
+ */
+public class AuthPolicyMatcher {
+
+    private final Node root = new Node();
+    private final Map<String, AuthPolicy> routePolicies = new HashMap<>();
+    private final AuthPolicy defaultPolicy;
+
+    public AuthPolicyMatcher(AuthPolicyProperties properties) {
+        for (AuthPolicyProperties.Rule rule : properties.getRules()) {
+            insert(normalize(rule.getPath()), AuthPolicy.of(rule.getAccess(), rule.getRoles()));
+        }
+        properties.getRoutes().forEach((routeId, rule) ->
+                routePolicies.put(routeId, AuthPolicy.of(rule.getAccess(), rule.getRoles())));
+        this.defaultPolicy = AuthPolicy.of(properties.getDefaultAccess(), properties.getDefaultRoles());
+    }
+
+    public AuthPolicy match(String routeId, String path) {
+        AuthPolicy matched = null;
+        Node node = root;
+        int length = path.length();
+
+        for (int i = 0; i < length && node != null; i++) {
+            char c = path.charAt(i);
+            if (c == '/' && node.policy != null) {
+                matched = node.policy;
+            }
+            node = node.child(c);
+        }
+        if (node != null && node.policy != null) {
+            matched = node.policy;
+        }
+
+        if (matched != null) {
+            return matched;
+        }
+        AuthPolicy routePolicy = routePolicies.get(routeId);
+        return routePolicy != null ? routePolicy : defaultPolicy;
+    }
+
+    // "/api/users/**", "/api/users/" -> "/api/users"
+    private static String normalize(String path) {
+        if (path == null || !path.startsWith("/")) {
+            throw new IllegalStateException("인증 정책 경로는 '/'로 시작해야 합니다: " + path);
+        }
+        String normalized = path;
+        if (normalized.endsWith("/**")) {
+            normalized = normalized.substring(0, normalized.length() - 3);
+        }
+        while (normalized.endsWith("/")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        if (normalized.contains("*")) {
+            throw new IllegalStateException("인증 정책 경로는 끝의 /** 외에 와일드카드를 지원하지 않습니다: " + path);
+        }
+        return normalized;
+    }
+
+    private void insert(String path, AuthPolicy policy) {
+        Node node = root;
+        for (int i = 0; i < path.length(); i++) {
+            node = node.getOrAddChild(path.charAt(i));
+        }
+        if (node.policy != null) {
+            throw new IllegalStateException("중복된 인증 정책 경로: " + path);
+        }
+        node.policy = policy;
+    }
+
+    private static final class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private AuthPolicy policy;
+
+        private Node child(char c) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node getOrAddChild(char c) {
+            Node child = child(c);
+            if (child == null) {
+                child = new Node();
+                labels = Arrays.copyOf(labels, labels.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                labels[labels.length - 1] = c;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+}
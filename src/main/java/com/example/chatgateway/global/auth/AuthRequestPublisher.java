@@ -0,0 +1,141 @@
+package com.example.chatgateway.global.auth;
+
+import com.example.chatgateway.domain.dto.TokenDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.kafka.sender.SenderRecord;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 인증 요청(TokenDTO) Kafka 발행기
+ * 1. 핑거프린트 id를 키로 사용해서 같은 토큰의 요청은 같은 파티션으로 보낸다.
+ * 2. 짧은 시간 안에 들어온 요청들을 묶어서 한 번에 전송한다.
+ */
+@Slf4j
+@Component
+public class AuthRequestPublisher {
+
+    private static final Duration RETRY_MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration RETRY_MAX_BACKOFF = Duration.ofSeconds(5);
+
+    private final ReactiveKafkaProducerTemplate<String, TokenDTO> kafkaProducerTemplate;
+    private final String topic;
+    private final int maxBatch;
+    private final Duration batchWindow;
+    private final int queueCapacity;
+
+    // 아직 배치로 묶이지 않은 요청 수 (queue-capacity를 넘으면 바로 실패)
+    private final AtomicInteger queued = new AtomicInteger();
+
+    // FluxSink.next는 여러 이벤트 루프 스레드에서 동시에 호출해도 내부에서 직렬화된다 (재시도나 스핀 없음)
+    // 파이프라인이 끝나면 비워서 재구독 대기 중의 요청이 끝난 FluxSink에 버려지지 않고 바로 실패하게 한다
+    private final AtomicReference<FluxSink<SenderRecord<String, TokenDTO, Sinks.Empty<Void>>>> requests = new AtomicReference<>();
+    private Disposable subscription;
+
+    public AuthRequestPublisher(ReactiveKafkaProducerTemplate<String, TokenDTO> kafkaProducerTemplate,
+                                @Value("${kafka.topic}") String topic,
+                                @Value("${kafka.producer.max-batch:500}") int maxBatch,
+                                @Value("${kafka.producer.batch-window:2ms}") Duration batchWindow,
+                                @Value("${kafka.producer.queue-capacity:10000}") int queueCapacity) {
+        this.kafkaProducerTemplate = kafkaProducerTemplate;
+        this.topic = topic;
+        this.maxBatch = maxBatch;
+        this.batchWindow = batchWindow;
+        this.queueCapacity = queueCapacity;
+    }
+
+    @PostConstruct
+    public void start() {
+        // 배치 전송 오류는 sendBatch 안에서 처리하고, 그래도 파이프라인이 끝나면 새 FluxSink로 다시 구독한다
+        subscription = Flux.<SenderRecord<String, TokenDTO, Sinks.Empty<Void>>>create(sink -> {
+                    queued.set(0);
+                    requests.set(sink);
+                    sink.onDispose(() -> requests.compareAndSet(sink, null));
+                })
+                .doOnNext(record -> queued.decrementAndGet())
+                // fairBackpressure: 전송이 밀리면 버퍼 방출 실패(오류 종료) 대신 FluxSink 버퍼에 쌓인다
+                .bufferTimeout(maxBatch, batchWindow, true)
+                .flatMap(this::sendBatch)
+                // 재구독이나 종료로 버려지는 요청은 타임아웃까지 기다리지 않도록 바로 실패시킨다
+                .doOnDiscard(SenderRecord.class, AuthRequestPublisher::failDiscarded)
+                // 계속 실패해도 CPU를 태우며 바로 재구독하지 않도록 간격을 늘려가며 재구독 (정상 동작하면 간격 초기화)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, RETRY_MIN_BACKOFF)
+                        .maxBackoff(RETRY_MAX_BACKOFF)
+                        .transientErrors(true)
+                        .doBeforeRetry(signal -> log.error("인증 요청 발행 파이프라인 오류, 재구독: {}", signal.failure().getMessage())))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void dispose() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    // 전송 결과(브로커 응답)까지 기다리는 Mono 반환
+    public Mono<Void> publish(TokenDTO tokenDTO) {
+        return Mono.defer(() -> {
+            FluxSink<SenderRecord<String, TokenDTO, Sinks.Empty<Void>>> sink = requests.get();
+            if (sink == null || sink.isCancelled()) {
+                return Mono.error(new IllegalStateException("인증 요청 발행기가 동작 중이 아님"));
+            }
+
+            if (queued.incrementAndGet() > queueCapacity) {
+                queued.decrementAndGet();
+                return Mono.error(new IllegalStateException("인증 요청 대기열 초과"));
+            }
+
+            Sinks.Empty<Void> result = Sinks.empty();
+            ProducerRecord<String, TokenDTO> producerRecord = new ProducerRecord<>(topic, tokenDTO.getId(), tokenDTO);
+            sink.next(SenderRecord.create(producerRecord, result));
+
+            return result.asMono();
+        });
+    }
+
+    int queuedCount() {
+        return queued.get();
+    }
+
+    private static void failDiscarded(SenderRecord<?, ?, ?> record) {
+        if (record.correlationMetadata() instanceof Sinks.Empty<?> result) {
+            result.tryEmitError(new IllegalStateException("인증 요청 발행 취소"));
+        }
+    }
+
+    private Mono<Void> sendBatch(List<SenderRecord<String, TokenDTO, Sinks.Empty<Void>>> batch) {
+        // send가 구독 전에 바로 던지는 예외도 아래 onErrorResume에서 처리되도록 defer
+        return Flux.defer(() -> kafkaProducerTemplate.send(Flux.fromIterable(batch)))
+                .doOnNext(senderResult -> {
+                    Sinks.Empty<Void> result = senderResult.correlationMetadata();
+                    if (senderResult.exception() != null) {
+                        result.tryEmitError(senderResult.exception());
+                    } else {
+                        result.tryEmitEmpty();
+                    }
+                })
+                .onErrorResume(e -> {
+                    // 배치 전체 실패: 아직 응답받지 못한 요청들에 오류 전달 (이미 완료된 요청은 무시된다)
+                    log.error("인증 요청 배치 전송 오류: {}", e.getMessage());
+                    batch.forEach(record -> record.correlationMetadata().tryEmitError(e));
+                    return Flux.empty();
+                })
+                .then();
+    }
+}
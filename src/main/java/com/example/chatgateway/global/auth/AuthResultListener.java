@@ -0,0 +1,74 @@
+package com.example.chatgateway.global.auth;
+
+import com.example.chatgateway.domain.dto.UserInfoDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.kafka.receiver.KafkaReceiver;
+import reactor.kafka.receiver.ReceiverRecord;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * 인증 인스턴스의 결과(UserInfoDTO)를 수신해서 대기 중인 요청을 즉시 깨운다.
+ * 게이트웨이마다 컨슈머 그룹이 달라서 모든 결과를 받는다 (ReactiveKafkaConsumerConfig).
+ * 재시작, 리밸런스 중에 놓친 결과를 위해 Redis 조회는 대체 경로로 남겨둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthResultListener {
+
+    private static final Duration COMMIT_INTERVAL = Duration.ofSeconds(1);
+
+    private final KafkaReceiver<String, UserInfoDTO> kafkaReceiver;
+    private final PendingAuthRegistry pendingAuthRegistry;
+
+    private Disposable subscription;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        subscription = kafkaReceiver.receive()
+                .doOnNext(this::handle)
+                // 수동 커밋: 처리한 오프셋은 모아서 주기적으로 커밋
+                .sample(COMMIT_INTERVAL)
+                .concatMap(record -> record.receiverOffset().commit())
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.error("인증 결과 수신 오류, 재구독: {}", signal.failure().getMessage())))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void dispose() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    private void handle(ReceiverRecord<String, UserInfoDTO> record) {
+        UserInfoDTO userInfo = record.value();
+
+        // 읽을 수 없는 메세지도 커밋해서 같은 레코드에서 수신이 멈추지 않게 한다
+        if (userInfo == null && record.headers().lastHeader(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER) != null) {
+            log.warn("읽을 수 없는 인증 결과 건너뜀 (key: {}, partition: {}, offset: {})",
+                    record.key(), record.partition(), record.offset());
+        }
+
+        // 인증 결과가 아닌 메세지는 무시
+        if (userInfo != null && userInfo.getEmail() != null) {
+            // 키가 요청 id(핑거프린트)이면 그것으로, 아니면 결과 id로 매칭
+            if (!pendingAuthRegistry.complete(record.key(), userInfo)) {
+                pendingAuthRegistry.complete(userInfo.getId(), userInfo);
+            }
+        }
+
+        record.receiverOffset().acknowledge();
+    }
+}
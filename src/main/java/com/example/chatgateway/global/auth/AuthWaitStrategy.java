@@ -0,0 +1,10 @@
+package com.example.chatgateway.global.auth;
+
+import java.time.Duration;
+
+// 인증 결과 대기 중 Redis 대체 조회 간격 전략
+public interface AuthWaitStrategy {
+
+    // attempt번째(0부터) Redis 조회 전에 기다릴 시간 (0번은 첫 조회 전 대기)
+    Duration delay(long attempt);
+}
@@ -0,0 +1,40 @@
+package com.example.chatgateway.global.auth;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 지수 백오프 + 지터
+ * 첫 조회는 최근 인증 지연 시간의 백분위수만큼 기다린 뒤에 한다 (보통은 그 전에 Kafka로 결과가 도착한다).
+ * 이후 간격은 multiplier배씩 늘어나고 maxDelay를 넘지 않는다.
+ */
+public class BackoffAuthWaitStrategy implements AuthWaitStrategy {
+
+    private final AuthLatencyTracker latencyTracker;
+    private final Duration minInitialDelay;
+    private final Duration maxDelay;
+    private final double multiplier;
+    private final double jitter;
+
+    public BackoffAuthWaitStrategy(AuthLatencyTracker latencyTracker, Duration minInitialDelay, Duration maxDelay,
+                                   double multiplier, double jitter) {
+        this.latencyTracker = latencyTracker;
+        this.minInitialDelay = minInitialDelay;
+        this.maxDelay = maxDelay;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+    }
+
+    @Override
+    public Duration delay(long attempt) {
+        long initialNanos = Math.max(minInitialDelay.toNanos(), latencyTracker.percentileNanos());
+        double nanos = Math.min(maxDelay.toNanos(), initialNanos * Math.pow(multiplier, attempt));
+
+        // 같은 순간에 몰린 요청들이 같은 시각에 Redis를 조회하지 않도록 ±jitter 비율만큼 흔든다
+        if (jitter > 0) {
+            nanos *= 1 + jitter * (ThreadLocalRandom.current().nextDouble() * 2 - 1);
+        }
+
+        return Duration.ofNanos((long) nanos);
+    }
+}
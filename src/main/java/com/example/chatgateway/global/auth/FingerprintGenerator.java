@@ -0,0 +1,111 @@
+package com.example.chatgateway.global.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 디바이스 핑거프린트 생성기 (SHA-256(cache.key + token)의 16진수 문자열)
+ * 1. 스레드별 MessageDigest와 버퍼를 재사용해서 요청마다 객체를 만들지 않는다.
+ * 2. 최근 토큰의 결과는 캐시해서 같은 토큰은 해시를 다시 계산하지 않는다.
+ */
+@Component
+public class FingerprintGenerator {
+
+    private static final String ALGORITHM = "SHA-256";
+    private static final int DIGEST_LENGTH = 32;
+    private static final int TOKEN_BUFFER_SIZE = 2048;
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[] keyBytes;
+    private final ThreadLocal<Workspace> workspace = ThreadLocal.withInitial(Workspace::new);
+    private final Cache<String, String> recent;
+
+    public FingerprintGenerator(@Value("${cache.key}") String key,
+                                @Value("${cache.fingerprint.maximum-size:100000}") long maximumSize) {
+        this.keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public String create(String token) {
+        String fingerprint = recent.getIfPresent(token);
+        if (fingerprint == null) {
+            fingerprint = compute(token);
+            recent.put(token, fingerprint);
+        }
+
+        return fingerprint;
+    }
+
+    // 캐시를 거치지 않는 계산
+    String compute(String token) {
+        Workspace ws = workspace.get();
+        MessageDigest digest = ws.digest;
+
+        // 비밀 키를 먼저 넣고(SHA-256은 중간 상태 복원이 clone뿐이라 매번 다시 넣는다) 토큰을 이어서 넣는다
+        digest.update(keyBytes);
+        int length = encodeAscii(token, ws.tokenBytes);
+        if (length >= 0) {
+            digest.update(ws.tokenBytes, 0, length);
+        } else {
+            digest.update(token.getBytes(StandardCharsets.UTF_8));
+        }
+
+        try {
+            digest.digest(ws.hash, 0, DIGEST_LENGTH);
+        } catch (DigestException e) {
+            throw new IllegalStateException("해시 계산 실패", e);
+        }
+
+        // 바이트 배열 16진수 문자열로 변환 (룩업 테이블)
+        byte[] hex = ws.hex;
+        for (int i = 0; i < DIGEST_LENGTH; i++) {
+            int b = ws.hash[i] & 0xff;
+            hex[i * 2] = HEX[b >>> 4];
+            hex[i * 2 + 1] = HEX[b & 0x0f];
+        }
+
+        return new String(hex, 0, DIGEST_LENGTH * 2, StandardCharsets.ISO_8859_1);
+    }
+
+    // JWT는 ASCII이므로 재사용 버퍼에 직접 인코딩 (ASCII가 아니거나 버퍼보다 길면 -1)
+    private static int encodeAscii(String token, byte[] buffer) {
+        int length = token.length();
+        if (length > buffer.length) {
+            return -1;
+        }
+
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c >= 0x80) {
+                return -1;
+            }
+            buffer[i] = (byte) c;
+        }
+
+        return length;
+    }
+
+    private static final class Workspace {
+        private final MessageDigest digest;
+        private final byte[] tokenBytes = new byte[TOKEN_BUFFER_SIZE];
+        private final byte[] hash = new byte[DIGEST_LENGTH];
+        private final byte[] hex = new byte[DIGEST_LENGTH * 2];
+
+        private Workspace() {
+            try {
+                this.digest = MessageDigest.getInstance(ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException("해시 알고리즘 탐색 불가", e);
+            }
+        }
+    }
+}
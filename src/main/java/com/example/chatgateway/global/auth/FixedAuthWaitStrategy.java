@@ -0,0 +1,18 @@
+package com.example.chatgateway.global.auth;
+
+import java.time.Duration;
+
+// 고정 간격 조회 (기존 방식)
+public class FixedAuthWaitStrategy implements AuthWaitStrategy {
+
+    private final Duration interval;
+
+    public FixedAuthWaitStrategy(Duration interval) {
+        this.interval = interval;
+    }
+
+    @Override
+    public Duration delay(long attempt) {
+        return attempt == 0 ? Duration.ZERO : interval;
+    }
+}
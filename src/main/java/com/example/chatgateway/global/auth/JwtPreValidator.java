@@ -0,0 +1,130 @@
+package com.example.chatgateway.global.auth;
+
+import com.example.chatgateway.domain.dto.UserInfoDTO;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.JwtParserBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * 엑세스 토큰 로컬 사전 검증 (선택 기능, jwt.pre-validation.enabled)
+ * 1. 서명 위조, 형식 오류, 재발급 가능 기간(jwt.expired-grace)을 넘겨 만료된 토큰은 인증 요청 없이 거절한다.
+ * 2. 만료되었지만 재발급 가능 기간 안의 토큰은 기존처럼 인증 인스턴스로 보내서 재발급받는다.
+ * 3. jwt.claims-routes에 등록된 라우트는 유효한 토큰의 클레임만으로 사용자 정보를 만든다.
+ */
+@Component
+public class JwtPreValidator {
+
+    public enum Status {
+        SKIPPED, VALID, REFRESHABLE, REJECTED
+    }
+
+    public record Verification(Status status, Claims claims) {
+        private static final Verification SKIPPED = new Verification(Status.SKIPPED, null);
+        private static final Verification REFRESHABLE = new Verification(Status.REFRESHABLE, null);
+        private static final Verification REJECTED = new Verification(Status.REJECTED, null);
+
+        public boolean isRejected() {
+            return status == Status.REJECTED;
+        }
+    }
+
+    private final boolean enabled;
+    private final JwtParser parser;
+    private final Duration expiredGrace;
+    private final Set<String> claimsRoutes;
+    private final String emailClaim;
+    private final String roleClaim;
+
+    public JwtPreValidator(@Value("${jwt.pre-validation.enabled:false}") boolean enabled,
+                           @Value("${jwt.secret:}") String secret,
+                           @Value("${jwt.public-key:}") String publicKey,
+                           @Value("${jwt.clock-skew:30s}") Duration clockSkew,
+                           @Value("${jwt.expired-grace:14d}") Duration expiredGrace,
+                           @Value("${jwt.claims-routes:}") Set<String> claimsRoutes,
+                           @Value("${jwt.claim.email:sub}") String emailClaim,
+                           @Value("${jwt.claim.role:auth}") String roleClaim) {
+        this.enabled = enabled;
+        this.expiredGrace = expiredGrace;
+        this.claimsRoutes = Set.copyOf(claimsRoutes);
+        this.emailClaim = emailClaim;
+        this.roleClaim = roleClaim;
+        this.parser = enabled ? buildParser(secret, publicKey, clockSkew) : null;
+    }
+
+    public Verification validate(String token) {
+        if (!enabled) {
+            return Verification.SKIPPED;
+        }
+
+        try {
+            return new Verification(Status.VALID, parser.parseSignedClaims(token).getPayload());
+        } catch (ExpiredJwtException e) {
+            // 서명은 검증된 상태에서 만료 검사가 실패한 경우
+            Date expiration = e.getClaims().getExpiration();
+            boolean refreshable = expiration != null
+                    && System.currentTimeMillis() - expiration.getTime() <= expiredGrace.toMillis();
+            return refreshable ? Verification.REFRESHABLE : Verification.REJECTED;
+        } catch (JwtException | IllegalArgumentException e) {
+            return Verification.REJECTED;
+        }
+    }
+
+    public boolean servesFromClaims(String routeId, Verification verification) {
+        return verification.status() == Status.VALID && routeId != null && claimsRoutes.contains(routeId);
+    }
+
+    // 클레임 기반 사용자 정보 (id는 기존과 같이 핑거프린트)
+    public UserInfoDTO toUserInfo(String id, String token, Claims claims) {
+        return new UserInfoDTO(id, claimAsString(claims, emailClaim), claimAsString(claims, roleClaim), token);
+    }
+
+    private static String claimAsString(Claims claims, String name) {
+        Object value = Claims.SUBJECT.equals(name) ? claims.getSubject() : claims.get(name);
+        return value != null ? value.toString() : null;
+    }
+
+    private static JwtParser buildParser(String secret, String publicKey, Duration clockSkew) {
+        JwtParserBuilder builder = Jwts.parser().clockSkewSeconds(clockSkew.toSeconds());
+
+        if (StringUtils.hasText(publicKey)) {
+            builder.verifyWith(parsePublicKey(publicKey));
+        } else if (StringUtils.hasText(secret)) {
+            builder.verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)));
+        } else {
+            throw new IllegalStateException("jwt.pre-validation.enabled=true 이면 jwt.secret 또는 jwt.public-key가 필요합니다");
+        }
+
+        return builder.build();
+    }
+
+    // X.509(Base64) 공개키 - RSA, EC 순서로 시도
+    private static PublicKey parsePublicKey(String publicKey) {
+        X509EncodedKeySpec keySpec = new X509EncodedKeySpec(Decoders.BASE64.decode(publicKey));
+
+        for (String algorithm : new String[]{"RSA", "EC"}) {
+            try {
+                return KeyFactory.getInstance(algorithm).generatePublic(keySpec);
+            } catch (GeneralSecurityException ignored) {
+                // 다음 알고리즘 시도
+            }
+        }
+
+        throw new IllegalStateException("jwt.public-key를 RSA 또는 EC 공개키로 읽을 수 없습니다");
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.chatgateway.global.auth;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 인스턴스당 인증 대기 요청 수 제한
+ * 동시에 max-concurrency개까지 인증을 기다리고, 넘치면 max-queue개까지 순서대로 대기시킨다.
+ * 대기열도 가득 차거나 queue-timeout 안에 차례가 오지 않으면 503으로 바로 실패한다.
+ */
+@Component
+public class PendingAuthLimiter implements MeterBinder {
+
+    private final int maxConcurrency;
+    private final int maxQueue;
+    private final Duration queueTimeout;
+
+    // 상태 변경은 모두 this 락 안에서 (캐시 미스 경로에서만 사용되므로 경합이 적다)
+    private final Queue<Ticket> waiters = new ArrayDeque<>();
+    private int active;
+
+    public PendingAuthLimiter(@Value("${auth.pending.max-concurrency:2000}") int maxConcurrency,
+                              @Value("${auth.pending.max-queue:2000}") int maxQueue,
+                              @Value("${auth.pending.queue-timeout:2s}") Duration queueTimeout) {
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueue = maxQueue;
+        this.queueTimeout = queueTimeout;
+    }
+
+    public <T> Mono<T> run(Supplier<Mono<T>> task) {
+        return Mono.defer(() -> {
+            Ticket ticket = new Ticket();
+            Mono<Void> admission;
+
+            synchronized (this) {
+                if (active < maxConcurrency) {
+                    active++;
+                    ticket.granted = true;
+                    admission = Mono.empty();
+                } else if (waiters.size() < maxQueue) {
+                    waiters.add(ticket);
+                    admission = ticket.sink.asMono()
+                            .timeout(queueTimeout)
+                            .onErrorMap(TimeoutException.class, e -> new ResponseStatusException(
+                                    HttpStatus.SERVICE_UNAVAILABLE, "인증 대기열 시간 초과"));
+                } else {
+                    return Mono.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "인증 대기열 초과"));
+                }
+            }
+
+            return admission
+                    .then(Mono.defer(task))
+                    .doFinally(signal -> finish(ticket));
+        });
+    }
+
+    private void finish(Ticket ticket) {
+        Ticket next;
+
+        synchronized (this) {
+            if (!ticket.granted) {
+                // 차례를 받기 전에 취소/시간 초과된 경우
+                waiters.remove(ticket);
+                return;
+            }
+
+            next = waiters.poll();
+            if (next != null) {
+                // 자리를 그대로 다음 대기 요청에 넘긴다
+                next.granted = true;
+            } else {
+                active--;
+            }
+        }
+
+        if (next != null) {
+            next.sink.tryEmitEmpty();
+        }
+    }
+
+    public synchronized int activeCount() {
+        return active;
+    }
+
+    public synchronized int queuedCount() {
+        return waiters.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("gateway.auth.limiter.active", this, PendingAuthLimiter::activeCount)
+                .description("인증을 기다리는 요청 수")
+                .register(registry);
+        Gauge.builder("gateway.auth.limiter.queued", this, PendingAuthLimiter::queuedCount)
+                .description("인증 대기열에서 차례를 기다리는 요청 수")
+                .register(registry);
+    }
+
+    private static final class Ticket {
+        private final Sinks.Empty<Void> sink = Sinks.empty();
+        private boolean granted;
+    }
+}
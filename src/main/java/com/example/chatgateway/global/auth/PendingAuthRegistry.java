@@ -0,0 +1,58 @@
+package com.example.chatgateway.global.auth;
+
+import com.example.chatgateway.domain.dto.UserInfoDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// 인증 결과를 기다리는 요청들의 대기열 (핑거프린트 id 기준)
+@Component
+public class PendingAuthRegistry implements MeterBinder {
+
+    private final ConcurrentMap<String, Sinks.One<UserInfoDTO>> pending = new ConcurrentHashMap<>();
+
+    // 대기 등록 (Kafka 전송 전에 호출해야 응답을 놓치지 않는다)
+    // 결과는 Kafka 수신 스레드에서 완료되므로 이후 처리(Redis 이전, 필터 체인)는 parallel 스케줄러로 넘긴다
+    public Mono<UserInfoDTO> register(String id) {
+        return pending.computeIfAbsent(id, key -> Sinks.one()).asMono()
+                .publishOn(Schedulers.parallel());
+    }
+
+    // 인증 결과 도착 시 대기 중인 요청 완료
+    public boolean complete(String id, UserInfoDTO userInfo) {
+        if (id == null) {
+            return false;
+        }
+
+        Sinks.One<UserInfoDTO> sink = pending.remove(id);
+        if (sink == null) {
+            return false;
+        }
+
+        sink.tryEmitValue(userInfo);
+        return true;
+    }
+
+    // 요청 종료(성공, 실패, 취소) 시 대기 해제
+    public void remove(String id) {
+        pending.remove(id);
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("gateway.auth.pending", pending, ConcurrentMap::size)
+                .description("Kafka 인증 결과를 기다리는 요청 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.chatgateway.global.auth;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.example.chatgateway.global.constant.Constants.INVALIDATE_MIGRATED;
+import static com.example.chatgateway.global.constant.Constants.INVALIDATE_REMOVED;
+import static com.example.chatgateway.global.constant.Constants.REDIS_INVALIDATE_CHANNEL;
+
+/**
+ * 게이트웨이 인스턴스 간 로컬 캐시 무효화 (Redis pub/sub)
+ * 토큰 재발급(MIGRATED), 로그아웃/폐기(REMOVED)된 핑거프린트를 모든 인스턴스에서 즉시 제거한다.
+ * 게이트웨이는 MIGRATED:<기존 id>:<새 id>만 발행하고, REMOVED:<id>는 user 인스턴스가 같은 채널에 발행한다.
+ * 로컬 캐시 외에 무효화를 받아야 하는 곳(웹소켓 세션 등)은 {@link Listener}로 등록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserInfoInvalidator {
+
+    public interface Listener {
+        void onRemoved(String id);
+
+        void onMigrated(String oldId, String newId);
+    }
+
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+    private final UserInfoNearCache userInfoNearCache;
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private Disposable subscription;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        subscription = reactiveStringRedisTemplate.listenToChannel(REDIS_INVALIDATE_CHANNEL)
+                .map(ReactiveSubscription.Message::getMessage)
+                .doOnNext(this::apply)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.error("캐시 무효화 채널 구독 오류, 재구독: {}", signal.failure().getMessage())))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void dispose() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    // 구독 시점에 로컬 캐시를 비우고 발행한다 (발행 실패는 로그만 남김: Redis 값은 이미 옮겨졌고 다른 인스턴스의 로컬 캐시는 TTL로 만료된다)
+    public Mono<Void> publishMigrated(String oldId, String newId) {
+        return Mono.defer(() -> {
+                    userInfoNearCache.invalidate(oldId);
+                    return reactiveStringRedisTemplate.convertAndSend(REDIS_INVALIDATE_CHANNEL,
+                            INVALIDATE_MIGRATED + ":" + oldId + ":" + newId);
+                })
+                .onErrorResume(e -> {
+                    log.warn("캐시 무효화 발행 실패 ({} -> {}): {}", oldId, newId, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    // 수신한 무효화 메세지 반영 (자신이 보낸 메세지도 다시 받지만 제거는 멱등)
+    private void apply(String message) {
+        String[] parts = message.split(":", 3);
+        if (parts.length < 2) {
+            log.warn("알 수 없는 캐시 무효화 메세지: {}", message);
+            return;
+        }
+
+        switch (parts[0]) {
+            case INVALIDATE_REMOVED -> {
+                userInfoNearCache.invalidate(parts[1]);
+                listeners.forEach(listener -> listener.onRemoved(parts[1]));
+            }
+            // 새 id는 새로 발급된 값이므로 기존 id만 제거
+            case INVALIDATE_MIGRATED -> {
+                userInfoNearCache.invalidate(parts[1]);
+                if (parts.length == 3) {
+                    listeners.forEach(listener -> listener.onMigrated(parts[1], parts[2]));
+                }
+            }
+            default -> log.warn("알 수 없는 캐시 무효화 메세지: {}", message);
+        }
+    }
+}
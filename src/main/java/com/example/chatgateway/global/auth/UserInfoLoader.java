@@ -0,0 +1,175 @@
+package com.example.chatgateway.global.auth;
+
+import com.example.chatgateway.domain.dto.TokenDTO;
+import com.example.chatgateway.domain.dto.UserInfoDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.example.chatgateway.global.constant.Constants.REDIS_ACCESS_KEY;
+import static com.example.chatgateway.global.constant.Constants.REDIS_ACCESS_TTL_SECONDS;
+
+/**
+ * 캐시 미스 시 인증 요청 및 결과 대기
+ * 같은 핑거프린트의 동시 요청은 하나로 합쳐서(single-flight) 인스턴스당 Kafka 전송과 대기를 한 번만 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserInfoLoader implements MeterBinder {
+
+    private final AuthRequestPublisher authRequestPublisher;
+    private final ReactiveRedisOperations<String, UserInfoDTO> reactiveUserInfoTemplate;
+    private final PendingAuthRegistry pendingAuthRegistry;
+    private final UserInfoNearCache userInfoNearCache;
+    private final UserInfoInvalidator userInfoInvalidator;
+    private final AuthMetrics authMetrics;
+    private final PendingAuthLimiter pendingAuthLimiter;
+    private final AuthCircuitBreaker authCircuitBreaker;
+    private final AuthWaitStrategy authWaitStrategy;
+    private final AuthLatencyTracker authLatencyTracker;
+
+    // 진행 중인 인증 요청 (핑거프린트 id 기준)
+    private final ConcurrentMap<String, Mono<UserInfoDTO>> inFlight = new ConcurrentHashMap<>();
+
+    // timeout은 라우트별 대기 시간 (같은 토큰의 동시 요청은 먼저 온 요청의 값을 따른다)
+    public Mono<UserInfoDTO> load(String id, String token, Duration timeout) {
+        // 결과는 cache()로 공유: 먼저 온 요청이 취소되어도 나머지 요청은 같은 결과를 받는다
+        return Mono.defer(() -> inFlight.computeIfAbsent(id, key -> share(key, token, timeout)));
+    }
+
+    // 끝난 요청은 자기 항목일 때만 지운다 (같은 핑거프린트의 더 새로운 요청을 지우지 않게)
+    private Mono<UserInfoDTO> share(String id, String token, Duration timeout) {
+        AtomicReference<Mono<UserInfoDTO>> self = new AtomicReference<>();
+        Mono<UserInfoDTO> shared = requestUserInfo(id, token, timeout)
+                .doFinally(signal -> inFlight.remove(id, self.get()))
+                .cache();
+        self.set(shared);
+        return shared;
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("gateway.auth.in_flight", inFlight, ConcurrentMap::size)
+                .description("진행 중인 인증 요청 수 (핑거프린트 기준)")
+                .register(registry);
+    }
+
+    // 인증 요청 메소드 (서킷이 열려 있거나 대기열이 가득 차면 503으로 바로 실패)
+    private Mono<UserInfoDTO> requestUserInfo(String id, String token, Duration timeout) {
+        return Mono.defer(() -> {
+            if (!authCircuitBreaker.allowRequest()) {
+                authMetrics.recordRejected(AuthMetrics.REJECTED_CIRCUIT_OPEN);
+                return Mono.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "인증 서비스 응답 지연으로 요청 차단"));
+            }
+
+            return pendingAuthLimiter.run(() -> sendAndWait(id, token, timeout))
+                    .doOnError(ResponseStatusException.class, e -> {
+                        if (e.getStatusCode() == HttpStatus.SERVICE_UNAVAILABLE) {
+                            authMetrics.recordRejected(AuthMetrics.REJECTED_LIMITER);
+                        }
+                    });
+        });
+    }
+
+    private Mono<UserInfoDTO> sendAndWait(String id, String token, Duration timeout) {
+        log.debug("캐시 없음, 인증 요청 단계 돌입");
+        TokenDTO tokenDTO = new TokenDTO(id, token);
+
+        return Mono.defer(() -> {
+                    // Kafka 전송 전에 대기 등록 (응답이 전송 완료보다 빨리 올 수도 있음)
+                    Mono<UserInfoDTO> authResult = pendingAuthRegistry.register(id);
+                    long start = System.nanoTime();
+
+                    // 인증 요청 Kafka 전송(파티션의 존재 이유: 묶어야 할 메세지들을 파티션으로 보내면서 대기열 구현)
+                    return authMetrics.timeKafkaSend(authRequestPublisher.publish(tokenDTO))
+                            .onErrorResume(e -> {
+                                // Kafka 전송 오류 처리
+                                log.error("Kafka 전송 오류: {}", e.getMessage());
+                                authCircuitBreaker.recordFailure();
+                                return Mono.error(
+                                        new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "카프카 전송 로직 에러 발생"));
+                            })
+                            .then(waitForUserInfo(id, authResult, start, timeout));
+                })
+                .doFinally(signal -> pendingAuthRegistry.remove(id));
+    }
+
+    // 인증 결과 대기 메소드 (Kafka 응답 우선, Redis는 대체 경로)
+    // 지연 시간 표본은 Kafka로 결과가 도착한 경우만 기록한다 (Redis 조회 시각은 대기 전략 자신의 간격이라 표본이 오염된다)
+    private Mono<UserInfoDTO> waitForUserInfo(String id, Mono<UserInfoDTO> authResult, long start, Duration timeout) {
+        return Mono.firstWithValue(
+                        authResult.doOnNext(userInfo -> {
+                            authMetrics.recordKafkaResult();
+                            authLatencyTracker.record(System.nanoTime() - start);
+                        }),
+                        checkRedisForUserInfo(id).doOnNext(userInfo -> authMetrics.recordRedisResult()))
+                .flatMap(userInfo -> migrateIfNeeded(id, userInfo))
+                .doOnNext(userInfo -> userInfoNearCache.put(userInfo.getId(), userInfo))
+                .timeout(timeout) // 타임아웃 설정
+                .doOnNext(userInfo -> authCircuitBreaker.recordSuccess())
+                .onErrorResume(e -> {
+                    if (e instanceof TimeoutException) {
+                        authCircuitBreaker.recordFailure();
+                    }
+                    return Mono.error(new ResponseStatusException(
+                            HttpStatus.INTERNAL_SERVER_ERROR, "레디스 유저 임시정보 조회 에러", e));
+                });
+    }
+
+    // redis 캐시 조회 메소드
+    private Mono<UserInfoDTO> checkRedisForUserInfo(String id) {
+        return Mono.defer(() -> {
+            AtomicInteger polls = new AtomicInteger();
+
+            return Mono.defer(() -> {
+                        polls.incrementAndGet();
+                        return authMetrics.timeRedisRead(reactiveUserInfoTemplate.opsForValue().get(REDIS_ACCESS_KEY + id));
+                    })
+                    .doOnNext(userInfo -> log.debug("Redis에서 사용자 정보 조회 성공"))
+                    // 결과가 올 때까지 대기 전략에 따라 재시도 (타임아웃은 호출부에서)
+                    .repeatWhenEmpty(flux -> flux
+                            .concatMap(attempt -> Mono.delay(authWaitStrategy.delay(attempt + 1))))
+                    .delaySubscription(authWaitStrategy.delay(0))
+                    .doFinally(signal -> authMetrics.recordRedisPolls(polls.get()));
+        });
+    }
+
+    /**
+     * 정합성을 맞추기 위한 로직
+     * 1. 기존 토큰이어서 업데이트가 되었을 수도 있는 id를 고려해서 기존 id의 값은 삭제한다.
+     * 2. 그게 아니라면 그냥 놔두고
+     */
+    private Mono<UserInfoDTO> migrateIfNeeded(String id, UserInfoDTO userInfo) {
+        if (id.equals(userInfo.getId())) {
+            return Mono.just(userInfo);
+        }
+
+        // 새 id 저장과 기존 id 삭제를 응답을 기다리지 않고 연달아 보낸다 (공유 커넥션에서 한 번의 왕복으로 파이프라이닝)
+        return authMetrics.timeRedisWrite(Mono.when(
+                        reactiveUserInfoTemplate.opsForValue()
+                                .set(REDIS_ACCESS_KEY + userInfo.getId(), userInfo, Duration.ofSeconds(REDIS_ACCESS_TTL_SECONDS)),
+                        reactiveUserInfoTemplate.delete(REDIS_ACCESS_KEY + id)))
+                // 다른 게이트웨이 인스턴스의 로컬 캐시에서도 기존 id 제거 (Redis 반영 후에만, 실패해도 인증은 성공)
+                .then(userInfoInvalidator.publishMigrated(id, userInfo.getId()))
+                .thenReturn(userInfo);
+    }
+}
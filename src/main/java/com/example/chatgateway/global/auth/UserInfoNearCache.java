@@ -0,0 +1,65 @@
+package com.example.chatgateway.global.auth;
+
+import com.example.chatgateway.domain.dto.UserInfoDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+import static com.example.chatgateway.global.constant.Constants.REDIS_ACCESS_TTL_SECONDS;
+
+/**
+ * Redis 앞단의 인스턴스 로컬 캐시 (핑거프린트 id -> UserInfoDTO)
+ * 크기와 TTL로 제거되며, TTL은 Redis TTL보다 짧아야 한다.
+ */
+@Component
+public class UserInfoNearCache implements MeterBinder {
+
+    private final Cache<String, UserInfoDTO> cache;
+
+    public UserInfoNearCache(@Value("${cache.local.maximum-size:100000}") long maximumSize,
+                             @Value("${cache.local.ttl:60s}") Duration ttl) {
+        if (ttl.compareTo(Duration.ofSeconds(REDIS_ACCESS_TTL_SECONDS)) >= 0) {
+            throw new IllegalStateException("로컬 캐시 TTL은 Redis TTL(" + REDIS_ACCESS_TTL_SECONDS + "초)보다 짧아야 합니다: " + ttl);
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public UserInfoDTO get(String id) {
+        return cache.getIfPresent(id);
+    }
+
+    public void put(String id, UserInfoDTO userInfo) {
+        cache.put(id, userInfo);
+    }
+
+    public void invalidate(String id) {
+        cache.invalidate(id);
+    }
+
+    // 히트/미스/제거 통계
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    // cache_gets{result=hit|miss}, cache_evictions 등 Caffeine 통계 노출
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "userInfoNearCache");
+    }
+}
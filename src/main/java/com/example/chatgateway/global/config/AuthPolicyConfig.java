@@ -0,0 +1,16 @@
+package com.example.chatgateway.global.config;
+
+import com.example.chatgateway.global.auth.AuthPolicyMatcher;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AuthPolicyProperties.class)
+public class AuthPolicyConfig {
+
+    @Bean
+    public AuthPolicyMatcher authPolicyMatcher(AuthPolicyProperties properties) {
+        return new AuthPolicyMatcher(properties);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.chatgateway.global.config;
+
+import com.example.chatgateway.domain.entity.UserRoleEnum;
+import com.example.chatgateway.global.auth.AuthPolicy.Access;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 경로별 인증 정책 설정 (auth.policy.*)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.policy")
+public class AuthPolicyProperties {
+
+    // 일치하는 규칙이 없을 때의 정책
+    private Access defaultAccess = Access.AUTHENTICATED;
+    private Set<UserRoleEnum> defaultRoles = new HashSet<>();
+
+    // 경로 접두사 규칙 (가장 긴 접두사 우선)
+    private List<Rule> rules = new ArrayList<>();
+
+    // 라우트 기본 정책 (route id -> 정책), 경로 규칙보다 우선순위가 낮다
+    private Map<String, Rule> routes = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String path;
+        private Access access = Access.AUTHENTICATED;
+        private Set<UserRoleEnum> roles = new HashSet<>();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.chatgateway.global.config;
+
+import com.example.chatgateway.global.auth.AuthLatencyTracker;
+import com.example.chatgateway.global.auth.AuthWaitStrategy;
+import com.example.chatgateway.global.auth.BackoffAuthWaitStrategy;
+import com.example.chatgateway.global.auth.FixedAuthWaitStrategy;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AuthWaitProperties.class)
+public class AuthWaitConfig {
+
+    @Bean
+    public AuthLatencyTracker authLatencyTracker(AuthWaitProperties properties) {
+        return new AuthLatencyTracker(properties.getLatencySamples(), properties.getLatencyPercentile());
+    }
+
+    @Bean
+    public AuthWaitStrategy authWaitStrategy(AuthWaitProperties properties, AuthLatencyTracker authLatencyTracker) {
+        return switch (properties.getStrategy()) {
+            case FIXED -> new FixedAuthWaitStrategy(properties.getFixedInterval());
+            case BACKOFF -> new BackoffAuthWaitStrategy(authLatencyTracker, properties.getMinInitialDelay(),
+                    properties.getMaxDelay(), properties.getMultiplier(), properties.getJitter());
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.chatgateway.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// 인증 결과 대기 설정 (auth.wait.*)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.wait")
+public class AuthWaitProperties {
+
+    public enum Strategy {
+        FIXED, BACKOFF
+    }
+
+    private Strategy strategy = Strategy.BACKOFF;
+
+    // 기본 타임아웃과 라우트별 타임아웃 (route id -> 타임아웃)
+    private Duration timeout = Duration.ofSeconds(10);
+    private Map<String, Duration> routeTimeouts = new HashMap<>();
+
+    // FIXED
+    private Duration fixedInterval = Duration.ofMillis(50);
+
+    // BACKOFF
+    private Duration minInitialDelay = Duration.ofMillis(20);
+    private Duration maxDelay = Duration.ofSeconds(1);
+    private double multiplier = 2.0;
+    private double jitter = 0.2;
+    private double latencyPercentile = 0.5;
+    private int latencySamples = 1024;
+
+    public Duration timeoutFor(String routeId) {
+        return routeTimeouts.getOrDefault(routeId, timeout);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.chatgateway.global.config;
+
+import com.example.chatgateway.global.scheduler.BlockingOffload;
+import com.example.chatgateway.global.scheduler.VirtualThreadSchedulers;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Optional;
+
+/**
+ * 블로킹 호출 전용 Scheduler
+ * - 기본: boundedElastic (코어 수 x 10 스레드, 초과 작업은 대기열)
+ * - scheduler.blocking.virtual-threads=true + Java 21 이상: 작업마다 가상 스레드 (Java 17이면 boundedElastic으로 대체)
+ */
+@Slf4j
+@Configuration
+public class BlockingOffloadConfig {
+
+    static final String SCHEDULER_NAME = "blocking";
+
+    @Value("${scheduler.blocking.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler blockingScheduler() {
+        if (virtualThreads) {
+            Optional<Scheduler> scheduler = VirtualThreadSchedulers.create(SCHEDULER_NAME);
+            if (scheduler.isPresent()) {
+                log.info("블로킹 호출을 가상 스레드에서 실행");
+                return scheduler.get();
+            }
+            log.warn("가상 스레드는 Java 21 이상에서만 지원 (현재 {}), boundedElastic 사용", Runtime.version().feature());
+        }
+        return Schedulers.newBoundedElastic(Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+                Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, SCHEDULER_NAME);
+    }
+
+    @Bean
+    public BlockingOffload blockingOffload(Scheduler blockingScheduler) {
+        return new BlockingOffload(blockingScheduler, virtualThreads && VirtualThreadSchedulers.isSupported());
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.chatgateway.global.config;
 
 import com.example.chatgateway.domain.dto.UserInfoDTO;
+import com.example.chatgateway.global.serializer.DtoSerializer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,7 +9,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.core.reactive.ReactiveKafkaConsumerTemplate;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.util.StringUtils;
 import reactor.kafka.receiver.KafkaReceiver;
 import reactor.kafka.receiver.ReceiverOptions;
 
@@ -28,6 +30,10 @@ public class ReactiveKafkaConsumerConfig {
     @Value("${kafka.group-id}")
     private String groupId;
 
+    // 인스턴스 식별자 (그룹 id 접미사, 비어 있으면 호스트 이름)
+    @Value("${kafka.instance-id:${HOSTNAME:}}")
+    private String instanceId;
+
     @Value("${kafka.auto-offset-reset}")
     private String autoOffsetReset;
 
@@ -35,23 +41,34 @@ public class ReactiveKafkaConsumerConfig {
     private String topic;
 
     @Bean
-    public KafkaReceiver<String, UserInfoDTO> kafkaReceiver() {
+    public KafkaReceiver<String, UserInfoDTO> kafkaReceiver(DtoSerializer<UserInfoDTO> kafkaUserInfoSerializer) {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, uri);
-        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, instanceGroupId());
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, UserInfoDTO.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        props.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
-        props.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
 
         ReceiverOptions<String, UserInfoDTO> receiverOptions = ReceiverOptions.<String, UserInfoDTO>create(props)
                 .subscription(Collections.singletonList("auth"))
-                .withValueDeserializer(new JsonDeserializer<>(UserInfoDTO.class, false))
+                // JSON, 바이너리 모두 읽음. 역직렬화 예외는 poll() 밖으로 던지지 않고 값 null + 예외 헤더로 넘긴다
+                .withValueDeserializer(new ErrorHandlingDeserializer<>(kafkaUserInfoSerializer))
                 .commitInterval(Duration.ZERO) // 수동 커밋 사용
                 .commitBatchSize(0); // 수동 커밋 크기 설정
 
         return KafkaReceiver.create(receiverOptions);
     }
+
+    /**
+     * 인증 결과는 요청을 보낸 게이트웨이만 기다리고 있으므로 인스턴스마다 별도 컨슈머 그룹으로 모든 결과를 받는다.
+     * 그룹을 공유하면 파티션을 나눠 가진 다른 인스턴스가 결과를 가져가서 Redis 대체 조회로만 끝나게 된다.
+     * 재시작 시 지난 결과를 다시 읽지 않도록 kafka.auto-offset-reset은 latest를 권장한다.
+     * 재시작마다 그룹이 새로 생겨 브로커에 버려진 그룹이 쌓이지 않도록 인스턴스 식별자는 고정값이어야 하므로
+     * kafka.instance-id(또는 HOSTNAME)가 없으면 기동을 실패시킨다.
+     */
+    String instanceGroupId() {
+        if (!StringUtils.hasText(instanceId)) {
+            throw new IllegalStateException("kafka.instance-id(또는 HOSTNAME 환경 변수)를 설정해야 합니다");
+        }
+        return groupId + "-" + instanceId;
+    }
 }
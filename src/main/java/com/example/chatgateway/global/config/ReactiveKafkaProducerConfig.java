@@ -1,6 +1,7 @@
 package com.example.chatgateway.global.config;
 
 import com.example.chatgateway.domain.dto.TokenDTO;
+import com.example.chatgateway.global.serializer.DtoSerializer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,7 +10,6 @@ import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 import reactor.kafka.sender.SenderOptions;
 
 import java.util.HashMap;
@@ -22,13 +22,34 @@ public class ReactiveKafkaProducerConfig {
     @Value("${kafka.uri}")
     private String uri;
 
+    // 배치 전송 튜닝 (로그인 몰림 시 작은 요청 여러 개 대신 큰 요청 몇 개로 묶어서 보낸다)
+    @Value("${kafka.producer.linger-ms:5}")
+    private int lingerMs;
+
+    @Value("${kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    @Value("${kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${kafka.producer.acks:all}")
+    private String acks;
+
+    @Value("${kafka.producer.max-in-flight:5}")
+    private int maxInFlight;
+
     @Bean
-    public ReactiveKafkaProducerTemplate<String, TokenDTO> kafkaTemplate() {
+    public ReactiveKafkaProducerTemplate<String, TokenDTO> kafkaTemplate(DtoSerializer<TokenDTO> kafkaTokenSerializer) {
         Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, uri);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        props.put(ProducerConfig.ACKS_CONFIG, acks);
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, maxInFlight);
 
-        return new ReactiveKafkaProducerTemplate<>(SenderOptions.create(props));
+        return new ReactiveKafkaProducerTemplate<>(SenderOptions.<String, TokenDTO>create(props)
+                .withValueSerializer(kafkaTokenSerializer));
     }
 }
@@ -1,64 +1,168 @@
 package com.example.chatgateway.global.config;
 
 import com.example.chatgateway.domain.dto.UserInfoDTO;
+import com.example.chatgateway.global.serializer.DtoSerializer;
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
 import io.lettuce.core.SocketOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Set;
 
 @Configuration
 @EnableRedisRepositories
 public class RedisConfig {
 
-    @Value("${spring.data.redis.host}")
+    private static final String MODE_STANDALONE = "standalone";
+    private static final String MODE_SENTINEL = "sentinel";
+    private static final String MODE_CLUSTER = "cluster";
+
+    // host, port는 standalone에서만 사용 (Spring Boot 기본값과 같은 localhost:6379), 비밀번호는 비어 있으면 인증 없음
+    @Value("${spring.data.redis.host:localhost}")
     private String host;
-    @Value("${spring.data.redis.port}")
+    @Value("${spring.data.redis.port:6379}")
     private int port;
-    @Value("${spring.data.redis.password}")
+    @Value("${spring.data.redis.password:}")
     private String password;
 
+    // 토폴로지: standalone, sentinel, cluster
+    @Value("${redis.mode:standalone}")
+    private String mode;
+    @Value("${spring.data.redis.sentinel.master:}")
+    private String sentinelMaster;
+    @Value("${spring.data.redis.sentinel.nodes:}")
+    private Set<String> sentinelNodes;
+    @Value("${spring.data.redis.cluster.nodes:}")
+    private Set<String> clusterNodes;
+
+    // 읽기 분산 (sentinel, cluster에서만 적용): upstream, upstreamPreferred, replicaPreferred, replica, nearest, any
+    @Value("${redis.read-from:upstream}")
+    private String readFrom;
+
+    // 타임아웃: 느린 명령을 오래 기다리지 않고 빠르게 실패
+    @Value("${redis.connect-timeout:3s}")
+    private Duration connectTimeout;
+    @Value("${redis.command-timeout:500ms}")
+    private Duration commandTimeout;
+
+    // 커넥션 풀 (리액티브 명령은 기본적으로 하나의 공유 커넥션에서 파이프라이닝된다)
+    @Value("${redis.pool.enabled:false}")
+    private boolean poolEnabled;
+    @Value("${redis.pool.max-active:16}")
+    private int poolMaxActive;
+    @Value("${redis.pool.max-idle:16}")
+    private int poolMaxIdle;
+    @Value("${redis.pool.min-idle:2}")
+    private int poolMinIdle;
+    @Value("${redis.pool.max-wait:200ms}")
+    private Duration poolMaxWait;
+    @Value("${redis.share-native-connection:true}")
+    private boolean shareNativeConnection;
+
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        RedisStandaloneConfiguration redisConfiguration = new RedisStandaloneConfiguration();
-        redisConfiguration.setHostName(host);
-        redisConfiguration.setPort(port);
-        redisConfiguration.setPassword(password);
-        redisConfiguration.setDatabase(0);
-
-        final SocketOptions socketoptions = SocketOptions.builder().connectTimeout(Duration.ofSeconds(10)).build();
-        final ClientOptions clientoptions = ClientOptions.builder().socketOptions(socketoptions).build();
-
-        LettuceClientConfiguration lettuceClientConfiguration = LettuceClientConfiguration.builder()
-                .clientOptions(clientoptions)
-                .commandTimeout(Duration.ofMinutes(1))
-                .shutdownTimeout(Duration.ZERO)
-                .build();
+    public LettuceConnectionFactory redisConnectionFactory() {
+        LettuceClientConfiguration lettuceClientConfiguration = lettuceClientConfiguration();
+
+        LettuceConnectionFactory connectionFactory = switch (mode) {
+            case MODE_SENTINEL -> {
+                RedisSentinelConfiguration redisConfiguration = new RedisSentinelConfiguration(sentinelMaster, sentinelNodes);
+                redisConfiguration.setPassword(password);
+                redisConfiguration.setDatabase(0);
+                yield new LettuceConnectionFactory(redisConfiguration, lettuceClientConfiguration);
+            }
+            case MODE_CLUSTER -> {
+                RedisClusterConfiguration redisConfiguration = new RedisClusterConfiguration(clusterNodes);
+                redisConfiguration.setPassword(password);
+                yield new LettuceConnectionFactory(redisConfiguration, lettuceClientConfiguration);
+            }
+            default -> {
+                RedisStandaloneConfiguration redisConfiguration = new RedisStandaloneConfiguration();
+                redisConfiguration.setHostName(host);
+                redisConfiguration.setPort(port);
+                redisConfiguration.setPassword(password);
+                redisConfiguration.setDatabase(0);
+                yield new LettuceConnectionFactory(redisConfiguration, lettuceClientConfiguration);
+            }
+        };
+
+        connectionFactory.setShareNativeConnection(shareNativeConnection);
+        return connectionFactory;
+    }
+
+    private LettuceClientConfiguration lettuceClientConfiguration() {
+        final SocketOptions socketoptions = SocketOptions.builder().connectTimeout(connectTimeout).build();
+
+        // 연결이 끊긴 동안 명령을 쌓아두지 않고 바로 실패시킨다
+        final ClientOptions clientoptions = MODE_CLUSTER.equals(mode)
+                ? ClusterClientOptions.builder()
+                        .topologyRefreshOptions(ClusterTopologyRefreshOptions.builder()
+                                .enableAllAdaptiveRefreshTriggers()
+                                .enablePeriodicRefresh(Duration.ofSeconds(30))
+                                .build())
+                        .socketOptions(socketoptions)
+                        .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                        .build()
+                : ClientOptions.builder()
+                        .socketOptions(socketoptions)
+                        .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                        .build();
+
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = poolEnabled
+                ? LettucePoolingClientConfiguration.builder().poolConfig(poolConfig())
+                : LettuceClientConfiguration.builder();
 
-        return new LettuceConnectionFactory(redisConfiguration, lettuceClientConfiguration);
+        builder.clientOptions(clientoptions)
+                .commandTimeout(commandTimeout)
+                .shutdownTimeout(Duration.ZERO);
+
+        if (!MODE_STANDALONE.equals(mode)) {
+            builder.readFrom(ReadFrom.valueOf(readFrom));
+        }
+
+        return builder.build();
     }
 
-    @Bean(name = "userInfoTemplate")
-    public RedisTemplate<String, UserInfoDTO> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
-        RedisTemplate<String, UserInfoDTO> redisTemplate = new RedisTemplate<>();
-        redisTemplate.setConnectionFactory(redisConnectionFactory);
+    @SuppressWarnings("rawtypes")
+    private GenericObjectPoolConfig poolConfig() {
+        GenericObjectPoolConfig poolConfig = new GenericObjectPoolConfig();
+        poolConfig.setMaxTotal(poolMaxActive);
+        poolConfig.setMaxIdle(poolMaxIdle);
+        poolConfig.setMinIdle(poolMinIdle);
+        poolConfig.setMaxWait(poolMaxWait);
+        return poolConfig;
+    }
 
-        redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(UserInfoDTO.class));
+    // 게이트웨이 필터(이벤트 루프)에서 사용하는 논블로킹 템플릿
+    @Bean(name = "reactiveUserInfoTemplate")
+    public ReactiveRedisTemplate<String, UserInfoDTO> reactiveRedisTemplate(
+            ReactiveRedisConnectionFactory reactiveRedisConnectionFactory,
+            DtoSerializer<UserInfoDTO> redisUserInfoSerializer) {
+        StringRedisSerializer keySerializer = new StringRedisSerializer();
 
-        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
-        redisTemplate.setHashValueSerializer(new Jackson2JsonRedisSerializer<>(UserInfoDTO.class));
+        RedisSerializationContext<String, UserInfoDTO> serializationContext = RedisSerializationContext
+                .<String, UserInfoDTO>newSerializationContext(keySerializer)
+                .value(redisUserInfoSerializer)
+                .hashKey(keySerializer)
+                .hashValue(redisUserInfoSerializer)
+                .build();
 
-        return redisTemplate;
+        return new ReactiveRedisTemplate<>(reactiveRedisConnectionFactory, serializationContext);
     }
 }
@@ -1,6 +1,7 @@
 package com.example.chatgateway.global.config;
 
 import com.example.chatgateway.global.filter.AuthFilter;
+import com.example.chatgateway.global.ratelimit.RateLimitPolicy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.route.RouteLocator;
@@ -28,10 +29,26 @@ public class RoutesConfig {
     @Value("${uri.participant}")
     private String participant;
 
+    // 요청 제한 (chat, message 라우트): 토큰(핑거프린트) 기준, 사용자 기준
+    // message 라우트의 사용자 기준 한도는 핸드셰이크와 이후 STOMP 프레임에 함께 적용된다 (RateLimitedWebSocketSession)
+    @Value("${rate-limit.fingerprint.permits-per-second:20}")
+    private double fingerprintPermitsPerSecond;
+
+    @Value("${rate-limit.fingerprint.burst:40}")
+    private int fingerprintBurst;
+
+    @Value("${rate-limit.user.permits-per-second:30}")
+    private double userPermitsPerSecond;
+
+    @Value("${rate-limit.user.burst:60}")
+    private int userBurst;
+
     private final AuthFilter authFilter;
 
     @Bean
     public RouteLocator routes(RouteLocatorBuilder builder) {
+        RateLimitPolicy fingerprintLimit = new RateLimitPolicy(fingerprintPermitsPerSecond, fingerprintBurst);
+        RateLimitPolicy userLimit = new RateLimitPolicy(userPermitsPerSecond, userBurst);
 
         return builder.routes()
                 .route("user", r -> r.path("/api/users/**")
@@ -39,9 +56,13 @@ public class RoutesConfig {
                         .uri(user))
                 .route("chat", r -> r.path("/api/open-chats/**")
                         .filters(f -> f.filter(authFilter))
+                        .metadata(RateLimitPolicy.FINGERPRINT_METADATA, fingerprintLimit)
+                        .metadata(RateLimitPolicy.USER_METADATA, userLimit)
                         .uri(chat))
                 .route("message", r -> r.path("/stomp/chat/**")
                         .filters(f -> f.filter(authFilter))
+                        .metadata(RateLimitPolicy.FINGERPRINT_METADATA, fingerprintLimit)
+                        .metadata(RateLimitPolicy.USER_METADATA, userLimit)
                         .uri(message))
 //                .route("ws", r -> r.path("/stomp/chat/**")
 //                        .uri(ws))
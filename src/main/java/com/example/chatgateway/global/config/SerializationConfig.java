@@ -0,0 +1,39 @@
+package com.example.chatgateway.global.config;
+
+import com.example.chatgateway.domain.dto.TokenDTO;
+import com.example.chatgateway.domain.dto.UserInfoDTO;
+import com.example.chatgateway.global.serializer.BinaryDtoCodec;
+import com.example.chatgateway.global.serializer.DtoSerializer;
+import com.example.chatgateway.global.serializer.SerializationFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Redis, Kafka 값 직렬화 형식
+ * 읽기는 항상 JSON과 바이너리를 모두 지원하므로, 전환 시 모든 인스턴스(인증 서비스 포함)가 배포된 뒤에 쓰기 형식을 BINARY로 바꾼다.
+ */
+@Configuration
+public class SerializationConfig {
+
+    @Value("${serialization.redis.format:json}")
+    private SerializationFormat redisFormat;
+
+    @Value("${serialization.kafka.format:json}")
+    private SerializationFormat kafkaFormat;
+
+    @Bean
+    public DtoSerializer<UserInfoDTO> redisUserInfoSerializer() {
+        return new DtoSerializer<>(UserInfoDTO.class, BinaryDtoCodec.userInfo(), redisFormat);
+    }
+
+    @Bean
+    public DtoSerializer<UserInfoDTO> kafkaUserInfoSerializer() {
+        return new DtoSerializer<>(UserInfoDTO.class, BinaryDtoCodec.userInfo(), kafkaFormat);
+    }
+
+    @Bean
+    public DtoSerializer<TokenDTO> kafkaTokenSerializer() {
+        return new DtoSerializer<>(TokenDTO.class, BinaryDtoCodec.token(), kafkaFormat);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.chatgateway.global.config;
+
+import com.example.chatgateway.global.ratelimit.GatewayRateLimiter;
+import com.example.chatgateway.global.websocket.AuthenticatedWebSocketService;
+import com.example.chatgateway.global.websocket.WebSocketSessionRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.socket.server.WebSocketService;
+
+// STOMP 라우트(message, participant) 웹소켓 세션 인증 추적
+// 게이트웨이가 등록한 webSocketService 빈을 재정의하지 않고 감싸서 WebsocketRoutingFilter가 그대로 주입받게 한다.
+@Configuration
+public class WebSocketConfig {
+
+    @Bean
+    public static BeanPostProcessor authenticatedWebSocketServicePostProcessor(
+            ObjectProvider<WebSocketSessionRegistry> webSocketSessionRegistry,
+            ObjectProvider<GatewayRateLimiter> gatewayRateLimiter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof WebSocketService webSocketService
+                        && !(bean instanceof AuthenticatedWebSocketService)) {
+                    return new AuthenticatedWebSocketService(webSocketService, webSocketSessionRegistry.getObject(),
+                            gatewayRateLimiter.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
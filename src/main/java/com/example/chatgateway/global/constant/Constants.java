@@ -10,6 +10,13 @@ public final class Constants {
     public static final String REDIS_REFRESH_KEY = "REFRESH_TOKEN:";
     public static final String REDIS_ACCESS_KEY = "ACCESS_TOKEN:";
     public static final String REDIS_SUBSCRIBE_KEY = "SUBSCRIBE:";
+    public static final String REDIS_RATE_LIMIT_KEY = "RATE_LIMIT:"; // RATE_LIMIT:<route>:<kind>:<key>:<window> (게이트웨이 전체 요청 수)
+    public static final long REDIS_ACCESS_TTL_SECONDS = 120 * 30; // 엑세스 토큰 캐시 유지 시간(초)
+
+    // redis pub/sub 상수
+    public static final String REDIS_INVALIDATE_CHANNEL = "USER_INFO_INVALIDATE"; // 게이트웨이 로컬 캐시 무효화 채널
+    public static final String INVALIDATE_REMOVED = "REMOVED";   // REMOVED:<id> (로그아웃, 토큰 폐기)
+    public static final String INVALIDATE_MIGRATED = "MIGRATED"; // MIGRATED:<기존 id>:<새 id> (토큰 재발급)
 
     // kafka 상수
     public static final String KAFKA_USER_TO_CHAT_TOPIC = "email";  // chat 인스턴스에 전파하기 위한 토픽
@@ -0,0 +1,82 @@
+package com.example.chatgateway.global.filter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 샘플링된 구조화 접근 로그 (ACCESS_LOG 로거, logback-spring.xml에서 비동기 appender로 출력)
+ * 토큰과 쿠키는 남기지 않고, 핑거프린트도 앞 8자리만 남긴다. 쿼리스트링은 제외한다.
+ */
+@Component
+public class AccessLogFilter implements GlobalFilter, Ordered {
+
+    public static final String FINGERPRINT_ATTR = AccessLogFilter.class.getName() + ".fingerprint";
+
+    private static final Logger accessLog = LoggerFactory.getLogger("ACCESS_LOG");
+    private static final int FINGERPRINT_PREFIX_LENGTH = 8;
+
+    private final double sampleRate;
+    private final boolean alwaysLogErrors;
+
+    public AccessLogFilter(@Value("${access-log.sample-rate:0.01}") double sampleRate,
+                           @Value("${access-log.always-log-errors:true}") boolean alwaysLogErrors) {
+        this.sampleRate = sampleRate;
+        this.alwaysLogErrors = alwaysLogErrors;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        boolean sampled = sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+        if ((!sampled && !alwaysLogErrors) || !accessLog.isInfoEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doOnSuccess(ignored -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    write(exchange, sampled, status != null ? status.value() : 200, start);
+                })
+                .doOnError(e -> write(exchange, sampled,
+                        e instanceof ResponseStatusException statusException ? statusException.getStatusCode().value() : 500,
+                        start));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private void write(ServerWebExchange exchange, boolean sampled, int status, long start) {
+        if (!sampled && status < 500) {
+            return;
+        }
+
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String fingerprint = exchange.getAttribute(FINGERPRINT_ATTR);
+
+        accessLog.atInfo()
+                .addKeyValue("route", route != null ? route.getId() : null)
+                .addKeyValue("method", exchange.getRequest().getMethod().name())
+                .addKeyValue("path", exchange.getRequest().getPath().value())
+                .addKeyValue("status", status)
+                .addKeyValue("duration_ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                .addKeyValue("fp", fingerprint != null && fingerprint.length() > FINGERPRINT_PREFIX_LENGTH
+                        ? fingerprint.substring(0, FINGERPRINT_PREFIX_LENGTH) : fingerprint)
+                .log("access");
+    }
+}
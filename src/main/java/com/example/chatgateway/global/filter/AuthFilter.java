@@ -1,28 +1,33 @@
 package com.example.chatgateway.global.filter;
 
-import com.example.chatgateway.domain.dto.TokenDTO;
 import com.example.chatgateway.domain.dto.UserInfoDTO;
+import com.example.chatgateway.global.auth.AuthMetrics;
+import com.example.chatgateway.global.auth.AuthMetrics.Outcome;
+import com.example.chatgateway.global.auth.AuthPolicy;
+import com.example.chatgateway.global.auth.AuthPolicyMatcher;
+import com.example.chatgateway.global.auth.FingerprintGenerator;
+import com.example.chatgateway.global.auth.JwtPreValidator;
+import com.example.chatgateway.global.auth.JwtPreValidator.Verification;
+import com.example.chatgateway.global.auth.UserInfoLoader;
+import com.example.chatgateway.global.auth.UserInfoNearCache;
+import com.example.chatgateway.global.config.AuthWaitProperties;
+import com.example.chatgateway.global.ratelimit.GatewayRateLimiter;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.http.HttpCookie;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
 
 import static com.example.chatgateway.global.constant.Constants.COOKIE_AUTH_HEADER;
 import static com.example.chatgateway.global.constant.Constants.REDIS_ACCESS_KEY;
@@ -32,100 +37,123 @@ import static com.example.chatgateway.global.constant.Constants.REDIS_ACCESS_KEY
 @RequiredArgsConstructor
 public class AuthFilter implements GatewayFilter {
 
-    @Value("${kafka.topic}")
-    private String topic;
+    // 인증된 사용자 정보 (웹소켓 세션 등록에 사용)
+    public static final String USER_INFO_ATTR = AuthFilter.class.getName() + ".userInfo";
 
-    @Value("${cache.key}")
-    private String key;
-
-    private final ReactiveKafkaProducerTemplate<String, TokenDTO> kafkaProducerTemplate;
-    private final RedisTemplate<String, UserInfoDTO> userInfoTemplate;
+    private final ReactiveRedisOperations<String, UserInfoDTO> reactiveUserInfoTemplate;
+    private final UserInfoNearCache userInfoNearCache;
+    private final UserInfoLoader userInfoLoader;
+    private final FingerprintGenerator fingerprintGenerator;
+    private final AuthMetrics authMetrics;
+    private final JwtPreValidator jwtPreValidator;
+    private final AuthWaitProperties authWaitProperties;
+    private final AuthPolicyMatcher authPolicyMatcher;
+    private final GatewayRateLimiter gatewayRateLimiter;
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        String uri = exchange.getRequest().getURI().toString();
-        log.info("☆☪☆☪☆☪☆☪☆☪☆☪☆☪☆☪☆☪☆☪ 요청이 들어온 경로: {} ☆☪☆☪☆☪☆☪☆☪☆☪☆☪☆☪☆☪☆☪☆☪", uri);
+        // 요청 로그는 AccessLogFilter에서 샘플링해서 남긴다
         String path = exchange.getRequest().getURI().getPath();
+        String routeId = AuthMetrics.routeId(exchange);
 
-        log.info("응답 초기 헤더 확인: {}", exchange.getResponse().getHeaders()); // 여기서는 문제 없음
-
-        // 예외 처리(로그인 및 회원가입)
-        if (path.startsWith("/api/users/login") || path.startsWith("/api/users/signup")) {
+        // 공개 경로(로그인, 회원가입 등)는 토큰 확인 없이 통과 (auth.policy.*)
+        AuthPolicy policy = authPolicyMatcher.match(routeId, path);
+        if (policy.isPublic()) {
             return chain.filter(exchange);
         }
 
-        String token= extractTokenFromCookies(exchange.getRequest());;
-
-//        if (path.startsWith("/open-chats/access")) {
-//            token = exchange.getRequest().getHeaders().getFirst("Authorization");
-//        } else {
-//            token = extractTokenFromCookies(exchange.getRequest());
-//        }
-
-        log.info("확인된 토큰: {}", token);
+        Timer.Sample sample = authMetrics.start();
+        String token = extractTokenFromCookies(exchange.getRequest());
         if (token == null) {
+            authMetrics.recordAuth(exchange, Outcome.UNAUTHORIZED, sample);
             return Mono.error(new ResponseStatusException(HttpStatus.UNAUTHORIZED, "No access token found"));
         }
 
-        String id = createFingerPrint(token);
-        log.info("추출된 토큰: {} // 아이디: {}", token, id);
+        String id = fingerprintGenerator.create(token);
+        exchange.getAttributes().put(AccessLogFilter.FINGERPRINT_ATTR, id);
 
-        if (Boolean.TRUE.equals(userInfoTemplate.hasKey(REDIS_ACCESS_KEY + id))) {
-            UserInfoDTO userInfoDTO = userInfoTemplate.opsForValue().get(REDIS_ACCESS_KEY + id);
+        // 토큰 단위 요청 제한: 캐시 조회(Redis) 전에 거절
+        if (!gatewayRateLimiter.tryAcquire(exchange, GatewayRateLimiter.Kind.FINGERPRINT, id)) {
+            authMetrics.recordAuth(exchange, Outcome.RATE_LIMITED, sample);
+            return Mono.error(new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many requests"));
+        }
 
-            if (userInfoDTO == null) {
-                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "No access token info found in redis");
-            }
+        // 로컬 캐시 히트 시 네트워크 왕복 없음
+        UserInfoDTO cached = userInfoNearCache.get(id);
+        if (cached != null) {
+            return forward(exchange, chain, policy, cached, Outcome.LOCAL_HIT, sample);
+        }
 
-            log.info("캐시 존재");
+        // 로컬 사전 검증: 위조, 형식 오류, 오래 만료된 토큰은 Redis와 Kafka를 거치지 않고 즉시 401
+        Verification verification = jwtPreValidator.validate(token);
+        if (verification.isRejected()) {
+            authMetrics.recordAuth(exchange, Outcome.UNAUTHORIZED, sample);
+            return Mono.error(new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid access token"));
+        }
+
+        if (jwtPreValidator.servesFromClaims(routeId, verification)) {
+            return forward(exchange, chain, policy, jwtPreValidator.toUserInfo(id, token, verification.claims()),
+                    Outcome.CLAIMS, sample);
+        }
 
-            ServerHttpRequest modifiedRequest = exchange.getRequest()
-                    .mutate()
-                    .header("email", userInfoDTO.getEmail())
-                    .header("role", userInfoDTO.getRole())
-                    .header("id", userInfoDTO.getId())
-                    .build();
+        // Redis 캐시 조회 -> 없으면 인증 요청 후 결과 대기 (전 구간 논블로킹)
+        return findCachedUserInfo(exchange, id, sample)
+                .map(userInfoDTO -> new Resolved(userInfoDTO, Outcome.REDIS_HIT))
+                .switchIfEmpty(Mono.defer(() -> userInfoLoader.load(id, token, authWaitProperties.timeoutFor(routeId))
+                        .doOnNext(userInfoDTO -> updateTokenCookieIfNeeded(exchange, token, userInfoDTO.getToken()))
+                        .doOnError(e -> authMetrics.recordAuthFailure(exchange, e, sample))
+                        .map(userInfoDTO -> new Resolved(userInfoDTO, Outcome.MISS))))
+                .flatMap(resolved -> forward(exchange, chain, policy, resolved.userInfo(), resolved.outcome(), sample));
+    }
 
-            return chain.filter(exchange.mutate().request(modifiedRequest).build());
+    // 사용자 정보를 찾은 경로 (권한, 요청 제한 확인을 통과해야 그 경로로 기록한다)
+    private record Resolved(UserInfoDTO userInfo, Outcome outcome) {
+    }
+
+    // 권한 확인 후 하위 서비스로 전달 (권한 부족은 하위 서비스까지 가지 않고 403)
+    private Mono<Void> forward(ServerWebExchange exchange, GatewayFilterChain chain, AuthPolicy policy,
+                               UserInfoDTO userInfoDTO, Outcome resolved, Timer.Sample sample) {
+        if (!policy.permits(userInfoDTO.getRole())) {
+            authMetrics.recordAuth(exchange, Outcome.FORBIDDEN, sample);
+            return Mono.error(new ResponseStatusException(HttpStatus.FORBIDDEN, "Insufficient role"));
+        }
+        // 사용자 단위 요청 제한 (id는 토큰 핑거프린트라서 토큰이 달라도 같은 사용자인 email 기준)
+        if (!gatewayRateLimiter.tryAcquire(exchange, GatewayRateLimiter.Kind.USER, userInfoDTO.getEmail())) {
+            authMetrics.recordAuth(exchange, Outcome.RATE_LIMITED, sample);
+            return Mono.error(new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many requests"));
         }
+        authMetrics.recordAuth(exchange, resolved, sample);
+        exchange.getAttributes().put(USER_INFO_ATTR, userInfoDTO);
+        return chain.filter(withUserInfo(exchange, userInfoDTO));
+    }
+
+    // 하위 서비스로 사용자 정보 헤더 전달
+    ServerWebExchange withUserInfo(ServerWebExchange exchange, UserInfoDTO userInfoDTO) {
+        ServerHttpRequest modifiedRequest = exchange.getRequest()
+                .mutate()
+                .header("email", userInfoDTO.getEmail())
+                .header("role", userInfoDTO.getRole())
+                .header("id", userInfoDTO.getId())
+                .build();
+
+        return exchange.mutate().request(modifiedRequest).build();
+    }
 
-        log.info("캐시 없음, 인증 요청 단계 돌입");
-        TokenDTO tokenDTO = new TokenDTO(id, token);
-
-        // 인증 요청 Kafka 전송(파티션의 존재 이유: 묶어야 할 메세지들을 파티션으로 보내면서 대기열 구현)
-        return kafkaProducerTemplate.send(topic, tokenDTO)
-                .flatMap(result -> {
-                    // Kafka에 메시지 전송 후 Redis에서 결과를 비동기적으로 조회
-                    return checkRedisForUserInfo(id)
-                            .flatMap(userInfoDTO -> {
-                                ServerHttpRequest modifiedRequest = exchange.getRequest()
-                                        .mutate()
-                                        .header("email", userInfoDTO.getEmail())
-                                        .header("role", userInfoDTO.getRole())
-                                        .header("id", userInfoDTO.getId())
-                                        .build();
-
-                                updateTokenCookieIfNeeded(exchange, token, userInfoDTO.getToken());
-                                return chain.filter(exchange.mutate().request(modifiedRequest).build());
-                            });
-                })
-                .onErrorResume(e -> {
-                    // Kafka 전송 오류 처리
-                    log.error("Kafka 전송 오류: {}", e.getMessage());
-                    return Mono.error(
-                            new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "카프카 전송 로직 에러 발생"));
-                });
+    // Redis 캐시 조회 메소드
+    private Mono<UserInfoDTO> findCachedUserInfo(ServerWebExchange exchange, String id, Timer.Sample sample) {
+        return authMetrics.timeRedisRead(reactiveUserInfoTemplate.opsForValue().get(REDIS_ACCESS_KEY + id))
+                .doOnNext(userInfoDTO -> userInfoNearCache.put(id, userInfoDTO))
+                .doOnError(e -> authMetrics.recordAuthFailure(exchange, e, sample));
     }
 
     // 쿠키 추출 메소드
-    private String extractTokenFromCookies(ServerHttpRequest request) {
+    String extractTokenFromCookies(ServerHttpRequest request) {
         // 쿠키에서 엑세스 토큰 추출
         String token = null;
 
         if (request.getCookies().containsKey(COOKIE_AUTH_HEADER)) {
             HttpCookie accessTokenCookie = request.getCookies().getFirst(COOKIE_AUTH_HEADER);
             if (accessTokenCookie != null) {
-                log.info("쿠키로부터 추출한 엑세스 토큰: {}", accessTokenCookie.getValue());
                 token = accessTokenCookie.getValue();
             }
         }
@@ -136,7 +164,7 @@ public class AuthFilter implements GatewayFilter {
     // 쿠키 업데이트 메소드
     private void updateTokenCookieIfNeeded(ServerWebExchange exchange, String currentToken, String newToken) {
         if (!currentToken.equals(newToken)) {
-            log.info("토큰 업데이트: 현재 토큰 {} ->, 새로운 토큰 {}", currentToken, newToken);
+            log.debug("재발급된 토큰으로 쿠키 교체");
             exchange.getResponse().addCookie(ResponseCookie.from(COOKIE_AUTH_HEADER, newToken)
                     .path("/")  // 쿠키의 유효 경로 설정
 //                    .httpOnly(true)  // 보안 설정 (HTTP만 접근 가능)
@@ -144,60 +172,4 @@ public class AuthFilter implements GatewayFilter {
                     .build());
         }
     }
-
-    // redis 캐시 조회 메소드
-    private Mono<UserInfoDTO> checkRedisForUserInfo(String id) {
-        return Mono.defer(() -> {
-                    UserInfoDTO userInfo = userInfoTemplate.opsForValue().get(REDIS_ACCESS_KEY + id);
-
-                    if (userInfo != null) {
-                        log.info("Redis에서 사용자 정보 조회 성공 - UserInfo: {}", userInfo);  // 성공 시 로그 추가
-
-                        /**
-                         * 정합성을 맞추기 위한 로직
-                         * 1. 기존 토큰이어서 업데이트가 되었을 수도 있는 id를 고려해서 기존 id의 값은 삭제한다.
-                         * 2. 그게 아니라면 그냥 놔두고
-                         */
-
-                        if (!id.equals(userInfo.getId())) {
-                            userInfoTemplate.delete(REDIS_ACCESS_KEY + id);
-                            userInfoTemplate.opsForValue().set(REDIS_ACCESS_KEY + userInfo.getId(), userInfo, 120 * 30, TimeUnit.SECONDS);
-                        }
-
-                        return Mono.just(userInfo);
-                    } else {
-                        log.info("Redis에서 사용자 정보가 없음 - ID: {}\n 조회하는 시간: {}", id, System.nanoTime());  // 데이터가 없는 경우 로그 추가
-                        return Mono.empty();
-                    }
-                })
-                .repeatWhenEmpty(flux -> flux
-                        .delayElements(Duration.ofMillis(50)) // 0.05초 간격으로 재시도
-                        .take(200)) // 재시도
-                .timeout(Duration.ofSeconds(10)) // 타임아웃 설정
-                .onErrorResume(e ->
-                        Mono.error(new ResponseStatusException(
-                                HttpStatus.INTERNAL_SERVER_ERROR, "레디스 유저 임시정보 조회 에러", e)));
-    }
-
-    // 디바이스 핑거프린트 생성 메소드
-    private String createFingerPrint(String token) {
-        String data = key + token;
-
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(data.getBytes(StandardCharsets.UTF_8));
-
-            // 바이트 배열 16진수 문자열로 변환
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) hexString.append('0');
-                hexString.append(hex);
-            }
-
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("해시 알고리즘 탐색 불가", e);
-        }
-    }
 }
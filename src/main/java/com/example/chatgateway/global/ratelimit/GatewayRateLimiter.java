@@ -0,0 +1,173 @@
+package com.example.chatgateway.global.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.example.chatgateway.global.constant.Constants.REDIS_RATE_LIMIT_KEY;
+
+/**
+ * 게이트웨이 요청 제한 (라우트 메타데이터에 RateLimitPolicy가 있는 라우트만)
+ * 1. 요청마다 로컬 토큰 버킷만 확인한다 (Redis, 락 없음). 버킷은 종류 -> 라우트 -> 키(핑거프린트, 사용자) 순의 ConcurrentHashMap에 둔다.
+ * 2. rate-limit.sync-interval마다 버킷별 사용량을 Redis에 합산하고, 전체 인스턴스 합계가 한도를 넘은 키는 구간이 끝날 때까지 로컬에서 거절한다.
+ *    Redis 장애 시에는 로컬 한도만 적용된다.
+ */
+@Slf4j
+@Component
+public class GatewayRateLimiter {
+
+    public enum Kind {
+        FINGERPRINT(RateLimitPolicy.FINGERPRINT_METADATA),
+        USER(RateLimitPolicy.USER_METADATA);
+
+        private final String metadataKey;
+        private final String tag = name().toLowerCase(Locale.ROOT);
+
+        Kind(String metadataKey) {
+            this.metadataKey = metadataKey;
+        }
+    }
+
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration syncInterval;
+    private final boolean globalEnabled;
+
+    private final Map<Kind, ConcurrentMap<String, ConcurrentMap<String, TokenBucket>>> buckets = new EnumMap<>(Kind.class);
+    private final ConcurrentMap<String, Counter[]> rejections = new ConcurrentHashMap<>();
+
+    private Disposable synchronizer;
+
+    public GatewayRateLimiter(ReactiveStringRedisTemplate reactiveStringRedisTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${rate-limit.sync-interval:1s}") Duration syncInterval,
+                              @Value("${rate-limit.global.enabled:true}") boolean globalEnabled) {
+        this.reactiveStringRedisTemplate = reactiveStringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.syncInterval = syncInterval;
+        this.globalEnabled = globalEnabled;
+        for (Kind kind : Kind.values()) {
+            buckets.put(kind, new ConcurrentHashMap<>());
+        }
+    }
+
+    // 제한이 없는 라우트이거나 키가 없으면 항상 허용
+    public boolean tryAcquire(ServerWebExchange exchange, Kind kind, String key) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null || key == null
+                || !(route.getMetadata().get(kind.metadataKey) instanceof RateLimitPolicy policy)) {
+            return true;
+        }
+
+        long now = System.nanoTime();
+        ConcurrentMap<String, TokenBucket> routeBuckets = buckets.get(kind)
+                .computeIfAbsent(route.getId(), id -> new ConcurrentHashMap<>());
+        TokenBucket bucket = routeBuckets.get(key);
+        if (bucket == null) {
+            bucket = routeBuckets.computeIfAbsent(key, k -> new TokenBucket(policy, now));
+        }
+
+        if (bucket.tryAcquire(now)) {
+            return true;
+        }
+        rejectedCounter(route.getId(), kind).increment();
+        return false;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        synchronizer = Flux.interval(syncInterval)
+                .onBackpressureDrop()
+                .flatMap(tick -> sync(), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void dispose() {
+        if (synchronizer != null) {
+            synchronizer.dispose();
+        }
+    }
+
+    // 구간(window) 동안의 사용량을 Redis에 합산 (동기화 시점의 구간에 반영하므로 최대 한 구간만큼 늦게 반영된다)
+    private Mono<Void> sync() {
+        long nowNanos = System.nanoTime();
+        long nowMillis = System.currentTimeMillis();
+        long windowMillis = syncInterval.toMillis();
+        long window = nowMillis / windowMillis;
+        long windowEndNanos = nowNanos + (windowMillis - nowMillis % windowMillis) * 1_000_000L;
+
+        List<Mono<Void>> reconciles = new ArrayList<>();
+        buckets.forEach((kind, routes) -> routes.forEach((routeId, routeBuckets) ->
+                routeBuckets.forEach((key, bucket) -> {
+                    long used = bucket.drainUnsynced();
+                    if (used > 0 && globalEnabled) {
+                        String redisKey = REDIS_RATE_LIMIT_KEY + routeId + ":" + kind.tag + ":" + key + ":" + window;
+                        reconciles.add(reconcile(redisKey, bucket, used, windowMillis, windowEndNanos));
+                    } else if (used == 0 && bucket.isIdle(nowNanos)) {
+                        routeBuckets.remove(key, bucket);
+                    }
+                })));
+
+        return Flux.fromIterable(reconciles)
+                .flatMap(reconcile -> reconcile, 256)
+                .then();
+    }
+
+    // SET NX EX로 만료 시간이 붙은 키를 먼저 만들고 INCRBY로 더한다
+    // (INCRBY 후 첫 합산일 때만 EXPIRE를 보내면 그 사이에 실패했을 때 만료 없는 키가 남는다)
+    private Mono<Void> reconcile(String redisKey, TokenBucket bucket, long used, long windowMillis, long windowEndNanos) {
+        ReactiveValueOperations<String, String> operations = reactiveStringRedisTemplate.opsForValue();
+
+        return operations.setIfAbsent(redisKey, "0", syncInterval.multipliedBy(2))
+                .then(operations.increment(redisKey, used))
+                .doOnNext(total -> {
+                    if (total > bucket.policy().globalLimit(windowMillis)) {
+                        bucket.blockUntil(windowEndNanos);
+                    }
+                })
+                .then()
+                .onErrorResume(e -> {
+                    log.debug("요청 제한 Redis 동기화 실패: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Counter rejectedCounter(String routeId, Kind kind) {
+        Counter[] counters = rejections.computeIfAbsent(routeId, id -> {
+            Counter[] byKind = new Counter[Kind.values().length];
+            for (Kind value : Kind.values()) {
+                byKind[value.ordinal()] = Counter.builder("gateway.ratelimit.rejected")
+                        .description("요청 제한으로 거절된 요청 수")
+                        .tag("route", id)
+                        .tag("kind", value.tag)
+                        .register(meterRegistry);
+            }
+            return byKind;
+        });
+
+        return counters[kind.ordinal()];
+    }
+}
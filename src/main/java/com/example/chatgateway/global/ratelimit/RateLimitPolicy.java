@@ -0,0 +1,32 @@
+package com.example.chatgateway.global.ratelimit;
+
+/**
+ * 라우트별 요청 제한 (RoutesConfig에서 라우트 메타데이터로 지정)
+ * permitsPerSecond: 초당 평균 허용량, burst: 순간적으로 허용하는 최대 요청 수
+ */
+public record RateLimitPolicy(double permitsPerSecond, int burst) {
+
+    // 인증 전, 토큰 핑거프린트 기준
+    public static final String FINGERPRINT_METADATA = "rate-limit.fingerprint";
+    // 인증 후, 사용자 기준
+    public static final String USER_METADATA = "rate-limit.user";
+
+    public RateLimitPolicy {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond > 0, burst >= 1 이어야 합니다");
+        }
+    }
+
+    long emissionIntervalNanos() {
+        return (long) (1_000_000_000L / permitsPerSecond);
+    }
+
+    long burstToleranceNanos() {
+        return emissionIntervalNanos() * (burst - 1);
+    }
+
+    // 전체 인스턴스 합산 허용량 (windowMillis 구간)
+    long globalLimit(long windowMillis) {
+        return (long) Math.ceil(permitsPerSecond * windowMillis / 1000.0) + burst;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.chatgateway.global.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷 (GCRA 방식: 다음 요청이 허용되는 이론상 시각 하나만 CAS로 갱신)
+ * 마지막 Redis 동기화 이후 사용량(unsynced)을 따로 모아 두었다가 GatewayRateLimiter가 전체 합산에 반영한다.
+ */
+final class TokenBucket {
+
+    private final RateLimitPolicy policy;
+    private final AtomicLong theoreticalArrival;
+    private final AtomicLong unsynced = new AtomicLong();
+
+    TokenBucket(RateLimitPolicy policy, long nowNanos) {
+        this.policy = policy;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    boolean tryAcquire(long nowNanos) {
+        long interval = policy.emissionIntervalNanos();
+        long tolerance = policy.burstToleranceNanos();
+
+        while (true) {
+            long current = theoreticalArrival.get();
+            long base = Math.max(current, nowNanos);
+            if (base - nowNanos > tolerance) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(current, base + interval)) {
+                unsynced.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    // 전체 합산이 한도를 넘은 경우 untilNanos까지 거절
+    void blockUntil(long untilNanos) {
+        long blockedArrival = untilNanos + policy.burstToleranceNanos();
+        theoreticalArrival.accumulateAndGet(blockedArrival, Math::max);
+    }
+
+    long drainUnsynced() {
+        return unsynced.getAndSet(0);
+    }
+
+    // 버킷이 가득 찬 상태(마지막 요청 이후 충분히 지남)면 제거해도 같은 결과
+    boolean isIdle(long nowNanos) {
+        return theoreticalArrival.get() <= nowNanos && unsynced.get() == 0;
+    }
+
+    RateLimitPolicy policy() {
+        return policy;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.chatgateway.global.scheduler;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 블로킹 호출(블로킹 RedisTemplate, JDBC, 파일 IO 등)을 이벤트 루프 밖에서 실행한다.
+ * 블로킹 어댑터는 직접 호출하지 말고 이 클래스를 거쳐서 Mono로 감싼다.
+ * 실행 스레드가 논블로킹 스레드(Netty 이벤트 루프, parallel)이면 블로킹하지 않고 바로 실패시킨다.
+ */
+public class BlockingOffload {
+
+    private final Scheduler scheduler;
+    private final boolean virtualThreads;
+
+    public BlockingOffload(Scheduler scheduler, boolean virtualThreads) {
+        this.scheduler = scheduler;
+        this.virtualThreads = virtualThreads;
+    }
+
+    public <T> Mono<T> call(Callable<T> blockingCall) {
+        return Mono.fromCallable(() -> {
+                    requireBlockingAllowed();
+                    return blockingCall.call();
+                })
+                .subscribeOn(scheduler);
+    }
+
+    public Mono<Void> run(Runnable blockingCall) {
+        return Mono.<Void>fromRunnable(() -> {
+                    requireBlockingAllowed();
+                    blockingCall.run();
+                })
+                .subscribeOn(scheduler);
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    // 잘못된 Scheduler(parallel 등)가 주입되어도 이벤트 루프를 멈추지 않게 한다
+    private static void requireBlockingAllowed() {
+        if (Schedulers.isInNonBlockingThread()) {
+            throw new IllegalStateException("논블로킹 스레드에서 블로킹 호출 시도: " + Thread.currentThread().getName());
+        }
+    }
+}
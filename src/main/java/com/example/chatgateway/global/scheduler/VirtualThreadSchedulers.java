@@ -0,0 +1,48 @@
+package com.example.chatgateway.global.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 가상 스레드 기반 Scheduler (Java 21 이상)
+ * 빌드는 Java 17 기준이므로 Thread.ofVirtual(), Executors.newThreadPerTaskExecutor()는 리플렉션으로 호출한다.
+ */
+@Slf4j
+public final class VirtualThreadSchedulers {
+
+    private VirtualThreadSchedulers() {
+    }
+
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    // 지원하지 않는 런타임이면 empty
+    public static Optional<Scheduler> create(String name) {
+        if (!isSupported()) {
+            return Optional.empty();
+        }
+
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, name + "-", 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+
+            return Optional.of(Schedulers.fromExecutorService(executor, name));
+        } catch (ReflectiveOperationException e) {
+            log.warn("가상 스레드 Scheduler 생성 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.chatgateway.global.serializer;
+
+import com.example.chatgateway.domain.dto.TokenDTO;
+import com.example.chatgateway.domain.dto.UserInfoDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 문자열 필드만 가진 DTO용 바이너리 형식
+ * [MAGIC][VERSION][SCHEMA][필드 수] + 필드별 (길이 + 1 varint, UTF-8 바이트), 길이 0은 null
+ * 첫 바이트가 JSON('{')과 겹치지 않아서 읽을 때 형식을 구분할 수 있다.
+ */
+public final class BinaryDtoCodec<T> implements DtoCodec<T> {
+
+    static final byte MAGIC = (byte) 0xB1;
+    static final byte VERSION = 1;
+
+    static final byte SCHEMA_USER_INFO = 1;
+    static final byte SCHEMA_TOKEN = 2;
+
+    private static final int HEADER_LENGTH = 4;
+
+    private final byte schema;
+    private final List<Function<T, String>> fields;
+    private final Function<String[], T> factory;
+
+    private BinaryDtoCodec(byte schema, List<Function<T, String>> fields, Function<String[], T> factory) {
+        this.schema = schema;
+        this.fields = fields;
+        this.factory = factory;
+    }
+
+    // 필드 순서를 바꾸거나 추가하면 VERSION을 올려야 한다
+    public static BinaryDtoCodec<UserInfoDTO> userInfo() {
+        return new BinaryDtoCodec<>(SCHEMA_USER_INFO,
+                List.of(UserInfoDTO::getId, UserInfoDTO::getEmail, UserInfoDTO::getRole, UserInfoDTO::getToken),
+                values -> new UserInfoDTO(values[0], values[1], values[2], values[3]));
+    }
+
+    public static BinaryDtoCodec<TokenDTO> token() {
+        return new BinaryDtoCodec<>(SCHEMA_TOKEN,
+                List.of(TokenDTO::getId, TokenDTO::getToken),
+                values -> new TokenDTO(values[0], values[1]));
+    }
+
+    static boolean isBinary(byte[] bytes) {
+        return bytes.length > 0 && bytes[0] == MAGIC;
+    }
+
+    @Override
+    public byte[] encode(T value) {
+        byte[][] encoded = new byte[fields.size()][];
+        int length = HEADER_LENGTH;
+        for (int i = 0; i < encoded.length; i++) {
+            String field = fields.get(i).apply(value);
+            if (field != null) {
+                encoded[i] = field.getBytes(StandardCharsets.UTF_8);
+                length += varIntSize(encoded[i].length + 1) + encoded[i].length;
+            } else {
+                length += 1;
+            }
+        }
+
+        byte[] bytes = new byte[length];
+        bytes[0] = MAGIC;
+        bytes[1] = VERSION;
+        bytes[2] = schema;
+        bytes[3] = (byte) encoded.length;
+
+        int position = HEADER_LENGTH;
+        for (byte[] field : encoded) {
+            if (field == null) {
+                bytes[position++] = 0;
+                continue;
+            }
+            position = writeVarInt(bytes, position, field.length + 1);
+            System.arraycopy(field, 0, bytes, position, field.length);
+            position += field.length;
+        }
+        return bytes;
+    }
+
+    @Override
+    public T decode(byte[] bytes) {
+        if (bytes.length < HEADER_LENGTH || bytes[0] != MAGIC) {
+            throw new IllegalArgumentException("바이너리 형식이 아님");
+        }
+        if (bytes[1] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 버전: " + bytes[1]);
+        }
+        if (bytes[2] != schema || bytes[3] != fields.size()) {
+            throw new IllegalArgumentException("스키마 불일치: schema=" + bytes[2] + ", fields=" + bytes[3]);
+        }
+
+        String[] values = new String[fields.size()];
+        int position = HEADER_LENGTH;
+        for (int i = 0; i < values.length; i++) {
+            int length = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (position >= bytes.length || shift > 28) {
+                    throw new IllegalArgumentException("잘못된 필드 길이");
+                }
+                b = bytes[position++];
+                length |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            if (length == 0) {
+                continue;
+            }
+            length -= 1;
+            // 5번째 바이트의 상위 비트가 켜져 있으면 음수가 될 수 있다
+            if (length < 0 || length > bytes.length - position) {
+                throw new IllegalArgumentException("잘못된 필드 길이: " + length);
+            }
+            values[i] = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+        }
+
+        if (position != bytes.length) {
+            throw new IllegalArgumentException("남은 바이트 존재: " + (bytes.length - position));
+        }
+        return factory.apply(values);
+    }
+
+    private static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static int writeVarInt(byte[] bytes, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            bytes[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[position++] = (byte) value;
+        return position;
+    }
+}
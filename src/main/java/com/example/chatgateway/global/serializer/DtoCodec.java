@@ -0,0 +1,12 @@
+package com.example.chatgateway.global.serializer;
+
+/**
+ * DTO 직렬화 방식 (Redis 값, Kafka 메세지 공용)
+ * 형식이 맞지 않으면 IllegalArgumentException을 던지고, 저장소별 예외 변환은 {@link DtoSerializer}에서 한다.
+ */
+public interface DtoCodec<T> {
+
+    byte[] encode(T value);
+
+    T decode(byte[] bytes);
+}
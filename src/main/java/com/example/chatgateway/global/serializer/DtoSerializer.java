@@ -0,0 +1,116 @@
+package com.example.chatgateway.global.serializer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Redis 템플릿과 Kafka 프로듀서/컨슈머에 같이 쓰는 직렬화기
+ * 쓰기는 설정된 형식으로, 읽기는 첫 바이트로 바이너리와 JSON을 구분한다 (전환 기간 동안 두 형식이 섞여 있어도 읽을 수 있게).
+ */
+@Slf4j
+public class DtoSerializer<T> implements RedisSerializer<T>, Serializer<T>, Deserializer<T> {
+
+    private final Class<T> type;
+    private final DtoCodec<T> binary;
+    private final DtoCodec<T> json;
+    private final DtoCodec<T> writer;
+    private final byte[] typeId;
+
+    public DtoSerializer(Class<T> type, BinaryDtoCodec<T> binary, SerializationFormat format) {
+        this.type = type;
+        this.binary = binary;
+        this.json = new JsonDtoCodec<>(type);
+        this.writer = format == SerializationFormat.BINARY ? binary : json;
+        this.typeId = type.getName().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public T decode(byte[] bytes) {
+        return BinaryDtoCodec.isBinary(bytes) ? binary.decode(bytes) : json.decode(bytes);
+    }
+
+    // Redis
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            return writer.encode(value);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return decode(bytes);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return type;
+    }
+
+    // Kafka
+    // JSON 형식은 기존 JsonSerializer처럼 타입 헤더(__TypeId__)를 붙여서 헤더로 타입을 찾는 컨슈머와 호환을 유지한다
+    // (바이너리 형식은 헤더 없이 스키마 바이트로 구분하므로 컨슈머가 BinaryDtoCodec을 써야 한다)
+    @Override
+    public byte[] serialize(String topic, Headers headers, T value) {
+        if (value != null && headers != null && writer == json) {
+            headers.remove(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+            headers.add(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, typeId);
+        }
+        return serialize(topic, value);
+    }
+
+    @Override
+    public byte[] serialize(String topic, T value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return writer.encode(value);
+        } catch (IllegalArgumentException e) {
+            throw new org.apache.kafka.common.errors.SerializationException(e.getMessage(), e);
+        }
+    }
+
+    // 컨슈머에서 예외를 던지면 poll()이 실패하고 같은 오프셋부터 다시 읽어 그 레코드에서 계속 멈추므로,
+    // 읽을 수 없는 값(손상, 모르는 형식/버전)은 로그만 남기고 null로 넘겨 리스너가 건너뛰고 커밋하게 한다
+    @Override
+    public T deserialize(String topic, byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return decode(bytes);
+        } catch (IllegalArgumentException e) {
+            log.warn("Kafka 메세지 역직렬화 실패, 건너뜀 (topic: {}, {} bytes): {}", topic, bytes.length, e.getMessage());
+            return null;
+        }
+    }
+
+    // Serializer, Deserializer 양쪽의 기본 메소드가 겹쳐서 명시적으로 구현
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.chatgateway.global.serializer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+
+// 기존 JSON 형식 (인증 서비스와 기존 Redis 값 호환용)
+public final class JsonDtoCodec<T> implements DtoCodec<T> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    public JsonDtoCodec(Class<T> type) {
+        this.reader = OBJECT_MAPPER.readerFor(type);
+        this.writer = OBJECT_MAPPER.writerFor(type);
+    }
+
+    @Override
+    public byte[] encode(T value) {
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("JSON 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public T decode(byte[] bytes) {
+        try {
+            return reader.readValue(bytes);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("JSON 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.chatgateway.global.serializer;
+
+// 쓰기 형식 (읽기는 두 형식 모두 지원)
+public enum SerializationFormat {
+    JSON,
+    BINARY
+}
@@ -0,0 +1,53 @@
+package com.example.chatgateway.global.websocket;
+
+import com.example.chatgateway.domain.dto.UserInfoDTO;
+import com.example.chatgateway.global.filter.AuthFilter;
+import com.example.chatgateway.global.ratelimit.GatewayRateLimiter;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import org.springframework.web.reactive.socket.server.WebSocketService;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 게이트웨이 웹소켓 프록시(WebsocketRoutingFilter)가 사용하는 WebSocketService
+ * AuthFilter를 통과한 핸드셰이크의 클라이언트 세션을 WebSocketSessionRegistry에 등록하고,
+ * 세션이 보내는 프레임에도 핸드셰이크와 같은 사용자 단위 요청 제한을 적용한다 (RateLimitedWebSocketSession).
+ */
+public class AuthenticatedWebSocketService implements WebSocketService {
+
+    private final WebSocketService delegate;
+    private final WebSocketSessionRegistry webSocketSessionRegistry;
+    private final GatewayRateLimiter gatewayRateLimiter;
+
+    public AuthenticatedWebSocketService(WebSocketService delegate, WebSocketSessionRegistry webSocketSessionRegistry,
+                                         GatewayRateLimiter gatewayRateLimiter) {
+        this.delegate = delegate;
+        this.webSocketSessionRegistry = webSocketSessionRegistry;
+        this.gatewayRateLimiter = gatewayRateLimiter;
+    }
+
+    @Override
+    public Mono<Void> handleRequest(ServerWebExchange exchange, WebSocketHandler handler) {
+        UserInfoDTO userInfo = exchange.getAttribute(AuthFilter.USER_INFO_ATTR);
+        if (userInfo == null) {
+            return delegate.handleRequest(exchange, handler);
+        }
+
+        return delegate.handleRequest(exchange, new WebSocketHandler() {
+            @Override
+            public List<String> getSubProtocols() {
+                return handler.getSubProtocols();
+            }
+
+            @Override
+            public Mono<Void> handle(WebSocketSession session) {
+                WebSocketSession limited = new RateLimitedWebSocketSession(session, gatewayRateLimiter, exchange,
+                        userInfo.getEmail());
+                return webSocketSessionRegistry.track(session, userInfo, handler.handle(limited));
+            }
+        });
+    }
+}
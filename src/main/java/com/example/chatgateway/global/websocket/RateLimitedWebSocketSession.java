@@ -0,0 +1,143 @@
+package com.example.chatgateway.global.websocket;
+
+import com.example.chatgateway.global.ratelimit.GatewayRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.HandshakeInfo;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 클라이언트가 보내는 STOMP 프레임마다 사용자 단위 요청 제한을 적용하는 세션
+ * 핸드셰이크와 같은 라우트 정책, 같은 버킷(라우트 + 사용자)을 쓴다. 하트비트(빈 줄)와 ping/pong은 세지 않는다.
+ * 프레임을 조용히 버리면 클라이언트는 전송된 줄 알게 되므로, 한도를 넘으면 세션을 1008(정책 위반)로 닫는다.
+ */
+@Slf4j
+class RateLimitedWebSocketSession implements WebSocketSession {
+
+    static final CloseStatus RATE_LIMITED = CloseStatus.POLICY_VIOLATION.withReason("Too many messages");
+
+    private final WebSocketSession delegate;
+    private final GatewayRateLimiter gatewayRateLimiter;
+    private final ServerWebExchange handshake;
+    private final String user;
+    private final AtomicBoolean limited = new AtomicBoolean();
+
+    RateLimitedWebSocketSession(WebSocketSession delegate, GatewayRateLimiter gatewayRateLimiter,
+                                ServerWebExchange handshake, String user) {
+        this.delegate = delegate;
+        this.gatewayRateLimiter = gatewayRateLimiter;
+        this.handshake = handshake;
+        this.user = user;
+    }
+
+    @Override
+    public Flux<WebSocketMessage> receive() {
+        return delegate.receive().filter(this::admit);
+    }
+
+    private boolean admit(WebSocketMessage message) {
+        if (limited.get()) {
+            DataBufferUtils.release(message.getPayload());
+            return false;
+        }
+        if (!isCounted(message)
+                || gatewayRateLimiter.tryAcquire(handshake, GatewayRateLimiter.Kind.USER, user)) {
+            return true;
+        }
+
+        DataBufferUtils.release(message.getPayload());
+        if (limited.compareAndSet(false, true)) {
+            log.debug("웹소켓 프레임 요청 제한 초과, 세션 종료: {}", delegate.getId());
+            delegate.close(RATE_LIMITED).onErrorResume(e -> Mono.empty()).subscribe();
+        }
+        return false;
+    }
+
+    // 데이터 프레임만 센다 (STOMP 하트비트는 줄바꿈만 있는 텍스트 프레임)
+    private static boolean isCounted(WebSocketMessage message) {
+        if (message.getType() != WebSocketMessage.Type.TEXT && message.getType() != WebSocketMessage.Type.BINARY) {
+            return false;
+        }
+
+        DataBuffer payload = message.getPayload();
+        for (int i = payload.readPosition(); i < payload.writePosition(); i++) {
+            byte b = payload.getByte(i);
+            if (b != '\n' && b != '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String getId() {
+        return delegate.getId();
+    }
+
+    @Override
+    public HandshakeInfo getHandshakeInfo() {
+        return delegate.getHandshakeInfo();
+    }
+
+    @Override
+    public DataBufferFactory bufferFactory() {
+        return delegate.bufferFactory();
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return delegate.getAttributes();
+    }
+
+    @Override
+    public Mono<Void> send(Publisher<WebSocketMessage> messages) {
+        return delegate.send(messages);
+    }
+
+    @Override
+    public boolean isOpen() {
+        return delegate.isOpen();
+    }
+
+    @Override
+    public Mono<Void> close(CloseStatus status) {
+        return delegate.close(status);
+    }
+
+    @Override
+    public Mono<CloseStatus> closeStatus() {
+        return delegate.closeStatus();
+    }
+
+    @Override
+    public WebSocketMessage textMessage(String payload) {
+        return delegate.textMessage(payload);
+    }
+
+    @Override
+    public WebSocketMessage binaryMessage(Function<DataBufferFactory, DataBuffer> payloadFactory) {
+        return delegate.binaryMessage(payloadFactory);
+    }
+
+    @Override
+    public WebSocketMessage pingMessage(Function<DataBufferFactory, DataBuffer> payloadFactory) {
+        return delegate.pingMessage(payloadFactory);
+    }
+
+    @Override
+    public WebSocketMessage pongMessage(Function<DataBufferFactory, DataBuffer> payloadFactory) {
+        return delegate.pongMessage(payloadFactory);
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.chatgateway.global.websocket;
+
+import com.example.chatgateway.domain.dto.UserInfoDTO;
+import com.example.chatgateway.global.auth.UserInfoInvalidator;
+import com.example.chatgateway.global.auth.UserInfoLoader;
+import com.example.chatgateway.global.auth.UserInfoNearCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.chatgateway.global.constant.Constants.REDIS_ACCESS_KEY;
+
+/**
+ * STOMP 웹소켓 세션 인증 상태 관리 (핑거프린트 id -> 열린 세션)
+ * 1. 핸드셰이크에서 인증된 세션을 등록하고, 프레임마다가 아니라 백그라운드에서 주기적으로 인증을 다시 확인한다.
+ *    확인 순서는 HTTP 요청과 같다: 로컬 캐시 -> Redis -> 인증 요청 (만료된 토큰은 이때 재발급된다)
+ * 2. 폐기(REMOVED)된 토큰의 세션은 즉시 닫고, 재발급(MIGRATED)된 토큰의 세션은 새 id로 옮긴다.
+ * 3. 재확인이 연속으로 실패하면(ws.auth.max-refresh-failures) 세션을 닫는다.
+ */
+@Slf4j
+@Component
+public class WebSocketSessionRegistry implements UserInfoInvalidator.Listener, MeterBinder {
+
+    private static final CloseStatus REVOKED = CloseStatus.POLICY_VIOLATION.withReason("Access token revoked");
+    private static final CloseStatus REFRESH_FAILED = CloseStatus.POLICY_VIOLATION.withReason("Authentication expired");
+
+    private final ReactiveRedisOperations<String, UserInfoDTO> reactiveUserInfoTemplate;
+    private final UserInfoNearCache userInfoNearCache;
+    private final UserInfoLoader userInfoLoader;
+
+    private final Duration refreshInterval;
+    private final Duration sweepInterval;
+    private final Duration refreshTimeout;
+    private final int maxRefreshFailures;
+    private final int refreshConcurrency;
+
+    private final ConcurrentMap<String, Set<TrackedSession>> sessionsById = new ConcurrentHashMap<>();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+
+    private Counter closedRevoked;
+    private Counter closedRefreshFailed;
+    private Disposable sweeper;
+
+    public WebSocketSessionRegistry(ReactiveRedisOperations<String, UserInfoDTO> reactiveUserInfoTemplate,
+                                    UserInfoNearCache userInfoNearCache,
+                                    UserInfoLoader userInfoLoader,
+                                    UserInfoInvalidator userInfoInvalidator,
+                                    @Value("${ws.auth.refresh-interval:60s}") Duration refreshInterval,
+                                    @Value("${ws.auth.sweep-interval:1s}") Duration sweepInterval,
+                                    @Value("${ws.auth.refresh-timeout:10s}") Duration refreshTimeout,
+                                    @Value("${ws.auth.max-refresh-failures:3}") int maxRefreshFailures,
+                                    @Value("${ws.auth.refresh-concurrency:64}") int refreshConcurrency) {
+        this.reactiveUserInfoTemplate = reactiveUserInfoTemplate;
+        this.userInfoNearCache = userInfoNearCache;
+        this.userInfoLoader = userInfoLoader;
+        this.refreshInterval = refreshInterval;
+        this.sweepInterval = sweepInterval;
+        this.refreshTimeout = refreshTimeout;
+        this.maxRefreshFailures = maxRefreshFailures;
+        this.refreshConcurrency = refreshConcurrency;
+
+        userInfoInvalidator.addListener(this);
+    }
+
+    // 세션이 끝날 때까지 등록해 두고 종료 시 제거
+    public Mono<Void> track(WebSocketSession session, UserInfoDTO userInfo, Mono<Void> handling) {
+        return Mono.defer(() -> {
+            // 첫 재확인 시점을 분산시켜서 동시에 열린 세션이 한꺼번에 확인되지 않게 한다
+            long firstCheck = System.currentTimeMillis()
+                    + ThreadLocalRandom.current().nextLong(Math.max(1, refreshInterval.toMillis()));
+            TrackedSession tracked = new TrackedSession(session, userInfo.getId(), userInfo.getToken(), firstCheck);
+
+            add(tracked.id, tracked);
+            sessionCount.incrementAndGet();
+
+            return handling.doFinally(signal -> {
+                remove(tracked.id, tracked);
+                sessionCount.decrementAndGet();
+            });
+        });
+    }
+
+    public int size() {
+        return sessionCount.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        sweeper = Flux.interval(sweepInterval)
+                // 이전 확인이 끝나지 않았으면 이번 주기는 건너뛴다
+                .onBackpressureDrop()
+                .flatMap(tick -> sweep(), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void dispose() {
+        if (sweeper != null) {
+            sweeper.dispose();
+        }
+    }
+
+    @Override
+    public void onRemoved(String id) {
+        Set<TrackedSession> sessions = sessionsById.remove(id);
+        if (sessions != null) {
+            sessions.forEach(tracked -> close(tracked, REVOKED).subscribe());
+        }
+    }
+
+    @Override
+    public void onMigrated(String oldId, String newId) {
+        Set<TrackedSession> sessions = sessionsById.remove(oldId);
+        if (sessions != null) {
+            sessions.forEach(tracked -> {
+                tracked.id = newId;
+                add(newId, tracked);
+            });
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("gateway.websocket.sessions", sessionCount, AtomicInteger::get)
+                .description("인증 추적 중인 웹소켓 세션 수")
+                .register(registry);
+        closedRevoked = closedCounter(registry, "revoked");
+        closedRefreshFailed = closedCounter(registry, "refresh_failed");
+    }
+
+    // 재확인 시점이 된 세션만 확인 (닫힌 세션은 정리)
+    private Mono<Void> sweep() {
+        long now = System.currentTimeMillis();
+
+        return Flux.fromIterable(sessionsById.values())
+                .flatMapIterable(sessions -> sessions)
+                .filter(tracked -> {
+                    if (!tracked.session.isOpen()) {
+                        remove(tracked.id, tracked);
+                        return false;
+                    }
+                    return tracked.nextCheckAt <= now && !tracked.refreshing;
+                })
+                .flatMap(this::refresh, refreshConcurrency)
+                .then()
+                .onErrorResume(e -> {
+                    log.error("웹소켓 세션 인증 재확인 오류: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> refresh(TrackedSession tracked) {
+        tracked.refreshing = true;
+        String id = tracked.id;
+
+        UserInfoDTO cached = userInfoNearCache.get(id);
+        Mono<UserInfoDTO> userInfo = cached != null
+                ? Mono.just(cached)
+                : reactiveUserInfoTemplate.opsForValue().get(REDIS_ACCESS_KEY + id)
+                        .doOnNext(info -> userInfoNearCache.put(id, info))
+                        // 캐시가 만료된 경우 인증 요청 (만료된 토큰은 재발급되고 MIGRATED로 세션이 옮겨진다)
+                        .switchIfEmpty(Mono.defer(() -> userInfoLoader.load(id, tracked.token, refreshTimeout)));
+
+        return userInfo
+                .doOnNext(info -> {
+                    tracked.failures = 0;
+                    tracked.token = info.getToken();
+                    if (!id.equals(info.getId()) && id.equals(tracked.id)) {
+                        remove(id, tracked);
+                        tracked.id = info.getId();
+                        add(tracked.id, tracked);
+                    }
+                })
+                .then()
+                .onErrorResume(e -> {
+                    tracked.failures++;
+                    log.debug("웹소켓 세션 인증 재확인 실패({}회): {}", tracked.failures, e.getMessage());
+                    return tracked.failures >= maxRefreshFailures ? close(tracked, REFRESH_FAILED) : Mono.empty();
+                })
+                .doFinally(signal -> {
+                    tracked.nextCheckAt = System.currentTimeMillis() + refreshInterval.toMillis();
+                    tracked.refreshing = false;
+                });
+    }
+
+    private Mono<Void> close(TrackedSession tracked, CloseStatus status) {
+        remove(tracked.id, tracked);
+        Counter counter = status == REVOKED ? closedRevoked : closedRefreshFailed;
+        if (counter != null) {
+            counter.increment();
+        }
+        return tracked.session.close(status)
+                .onErrorResume(e -> Mono.empty());
+    }
+
+    private void add(String id, TrackedSession tracked) {
+        sessionsById.computeIfAbsent(id, key -> ConcurrentHashMap.newKeySet()).add(tracked);
+    }
+
+    private void remove(String id, TrackedSession tracked) {
+        sessionsById.computeIfPresent(id, (key, sessions) -> {
+            sessions.remove(tracked);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    private static Counter closedCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("gateway.websocket.closed")
+                .description("인증 문제로 게이트웨이가 닫은 웹소켓 세션 수")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    private static final class TrackedSession {
+        private final WebSocketSession session;
+        private volatile String id;
+        private volatile String token;
+        private volatile long nextCheckAt;
+        private volatile boolean refreshing;
+        private int failures;
+
+        private TrackedSession(WebSocketSession session, String id, String token, long nextCheckAt) {
+            this.session = session;
+            this.id = id;
+            this.token = token;
+            this.nextCheckAt = nextCheckAt;
+        }
+    }
+}
@@ -1,13 +1,63 @@
 package com.example.chatgateway;
 
+import com.example.chatgateway.global.websocket.AuthenticatedWebSocketService;
+import com.example.chatgateway.load.RespServerStandIn;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.gateway.filter.WebsocketRoutingFilter;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
 
-@SpringBootTest
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EmbeddedKafka(partitions = 1, topics = {"authorization", "auth"}, bootstrapServersProperty = "kafka.uri")
+@SpringBootTest(properties = {
+        "kafka.topic=authorization",
+        "kafka.group-id=gateway-test",
+        "kafka.instance-id=context-test",
+        "kafka.auto-offset-reset=earliest",
+        "cache.key=context-test-fingerprint-key",
+        "spring.data.redis.host=127.0.0.1",
+        "jwt.secret=Y29udGV4dC10ZXN0LWp3dC1zZWNyZXQtMDEyMzQ1Njc4OWFiY2RlZg==",
+        "uri.user=http://localhost:8081",
+        "uri.chat=http://localhost:8082",
+        "uri.message=http://localhost:8083",
+        "uri.ws=ws://localhost:8083",
+        "uri.participant=http://localhost:8084"
+})
 class ChatGatewayApplicationTests {
 
+    private static RespServerStandIn redis;
+
+    @Autowired
+    private WebsocketRoutingFilter websocketRoutingFilter;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws IOException {
+        redis = RespServerStandIn.start();
+        registry.add("spring.data.redis.port", redis::port);
+    }
+
+    @AfterAll
+    static void stop() throws IOException {
+        redis.close();
+    }
+
     @Test
     void contextLoads() {
     }
 
+    @Test
+    void websocketRoutingFilterUsesAuthenticatedWebSocketService() {
+        Object webSocketService = ReflectionTestUtils.getField(websocketRoutingFilter, "webSocketService");
+
+        assertThat(webSocketService).isInstanceOf(AuthenticatedWebSocketService.class);
+    }
+
 }
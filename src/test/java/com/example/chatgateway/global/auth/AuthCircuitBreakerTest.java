@@ -0,0 +1,141 @@
+package com.example.chatgateway.global.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthCircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(10);
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final AuthCircuitBreaker breaker = new AuthCircuitBreaker(3, OPEN_DURATION, now::get);
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        breaker.recordFailure();
+        breaker.recordFailure();
+        assertThat(breaker.allowRequest()).isTrue();
+
+        breaker.recordFailure();
+        assertThat(breaker.state()).isEqualTo(AuthCircuitBreaker.State.OPEN);
+        assertThat(breaker.allowRequest()).isFalse();
+        assertThat(breaker.isOpen()).isTrue();
+    }
+
+    @Test
+    void successResetsConsecutiveFailures() {
+        breaker.recordFailure();
+        breaker.recordFailure();
+        breaker.recordSuccess();
+        breaker.recordFailure();
+        breaker.recordFailure();
+
+        assertThat(breaker.state()).isEqualTo(AuthCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void letsExactlyOneProbeThroughAfterOpenDuration() {
+        open();
+        advance(OPEN_DURATION);
+
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.state()).isEqualTo(AuthCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.allowRequest()).isFalse();
+        assertThat(breaker.allowRequest()).isFalse();
+    }
+
+    @Test
+    void probeSuccessCloses() {
+        open();
+        advance(OPEN_DURATION);
+        assertThat(breaker.allowRequest()).isTrue();
+
+        breaker.recordSuccess();
+
+        assertThat(breaker.state()).isEqualTo(AuthCircuitBreaker.State.CLOSED);
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.allowRequest()).isTrue();
+    }
+
+    @Test
+    void probeFailureReopensForAnotherOpenDuration() {
+        open();
+        advance(OPEN_DURATION);
+        assertThat(breaker.allowRequest()).isTrue();
+
+        breaker.recordFailure();
+
+        assertThat(breaker.state()).isEqualTo(AuthCircuitBreaker.State.OPEN);
+        advance(OPEN_DURATION.minusNanos(1));
+        assertThat(breaker.allowRequest()).isFalse();
+        advance(Duration.ofNanos(1));
+        assertThat(breaker.allowRequest()).isTrue();
+    }
+
+    @Test
+    void abandonedProbeIsReplacedAfterOpenDuration() {
+        open();
+        advance(OPEN_DURATION);
+        assertThat(breaker.allowRequest()).isTrue();
+
+        // 시험 요청이 성공도 실패도 기록하지 않고 사라진 경우
+        advance(OPEN_DURATION);
+
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.allowRequest()).isFalse();
+    }
+
+    @Test
+    void concurrentCallersGetSingleProbe() throws InterruptedException {
+        open();
+        advance(OPEN_DURATION);
+
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicInteger allowed = new AtomicInteger();
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < 1_000; j++) {
+                        if (breaker.allowRequest()) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(allowed.get()).isEqualTo(1);
+    }
+
+    private void open() {
+        for (int i = 0; i < 3; i++) {
+            breaker.recordFailure();
+        }
+        assertThat(breaker.state()).isEqualTo(AuthCircuitBreaker.State.OPEN);
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+}
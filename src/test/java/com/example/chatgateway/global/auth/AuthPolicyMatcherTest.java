@@ -0,0 +1,114 @@
+package com.example.chatgateway.global.auth;
+
+import com.example.chatgateway.domain.entity.UserRoleEnum;
+import com.example.chatgateway.global.auth.AuthPolicy.Access;
+import com.example.chatgateway.global.config.AuthPolicyProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthPolicyMatcherTest {
+
+    @Test
+    void longestPrefixWins() {
+        AuthPolicyMatcher matcher = new AuthPolicyMatcher(properties(
+                rule("/api/admin/**", Access.ROLE, UserRoleEnum.ADMIN),
+                rule("/api/admin/notice", Access.PUBLIC),
+                rule("/api/admin/notice/drafts", Access.ROLE, UserRoleEnum.ADMIN)));
+
+        assertThat(matcher.match("user", "/api/admin/users").permits("ROLE_USER")).isFalse();
+        assertThat(matcher.match("user", "/api/admin/notice").isPublic()).isTrue();
+        assertThat(matcher.match("user", "/api/admin/notice/1").isPublic()).isTrue();
+        assertThat(matcher.match("user", "/api/admin/notice/drafts/1").isPublic()).isFalse();
+        assertThat(matcher.match("user", "/api/admin/notice/drafts/1").permits("ROLE_ADMIN")).isTrue();
+    }
+
+    @Test
+    void prefixesMatchOnlyWholeSegments() {
+        AuthPolicyMatcher matcher = new AuthPolicyMatcher(properties(rule("/chat", Access.PUBLIC)));
+
+        assertThat(matcher.match("chat", "/chat").isPublic()).isTrue();
+        assertThat(matcher.match("chat", "/chat/").isPublic()).isTrue();
+        assertThat(matcher.match("chat", "/chat/rooms/1").isPublic()).isTrue();
+        assertThat(matcher.match("chat", "/chatroom").isPublic()).isFalse();
+        assertThat(matcher.match("chat", "/chatroom/1").isPublic()).isFalse();
+        assertThat(matcher.match("chat", "/cha").isPublic()).isFalse();
+    }
+
+    @Test
+    void trailingSlashAndWildcardAreNormalized() {
+        AuthPolicyMatcher matcher = new AuthPolicyMatcher(properties(
+                rule("/open/", Access.PUBLIC),
+                rule("/docs/**", Access.PUBLIC)));
+
+        assertThat(matcher.match("user", "/open/a").isPublic()).isTrue();
+        assertThat(matcher.match("user", "/docs").isPublic()).isTrue();
+        assertThat(matcher.match("user", "/docsx").isPublic()).isFalse();
+    }
+
+    @Test
+    void fallsBackToRoutePolicyThenDefault() {
+        AuthPolicyProperties properties = properties(rule("/api/open-chats/public", Access.PUBLIC));
+        AuthPolicyProperties.Rule adminOnly = rule(null, Access.ROLE, UserRoleEnum.ADMIN);
+        properties.getRoutes().put("participant", adminOnly);
+        AuthPolicyMatcher matcher = new AuthPolicyMatcher(properties);
+
+        assertThat(matcher.match("participant", "/api/open-chats/public/1").isPublic()).isTrue();
+        assertThat(matcher.match("participant", "/stomp/participant").permits("ROLE_USER")).isFalse();
+        assertThat(matcher.match("participant", "/stomp/participant").permits("ADMIN")).isTrue();
+        assertThat(matcher.match("chat", "/stomp/participant")).isSameAs(AuthPolicy.AUTHENTICATED);
+    }
+
+    @Test
+    void rejectsInvalidRules() {
+        assertThatThrownBy(() -> new AuthPolicyMatcher(properties(rule("api/users", Access.PUBLIC))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new AuthPolicyMatcher(properties(rule("/api/*/login", Access.PUBLIC))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new AuthPolicyMatcher(properties(
+                rule("/api/users", Access.PUBLIC), rule("/api/users/**", Access.AUTHENTICATED))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new AuthPolicyMatcher(properties(rule("/admin", Access.ROLE))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void applicationYmlKeepsLoginAndSignupPublic() throws IOException {
+        List<PropertySource<?>> sources = new YamlPropertySourceLoader()
+                .load("application", new ClassPathResource("application.yml"));
+        AuthPolicyProperties properties = new Binder(ConfigurationPropertySources.from(sources))
+                .bind("auth.policy", AuthPolicyProperties.class)
+                .get();
+        AuthPolicyMatcher matcher = new AuthPolicyMatcher(properties);
+
+        assertThat(matcher.match("user", "/api/users/login").isPublic()).isTrue();
+        assertThat(matcher.match("user", "/api/users/signup").isPublic()).isTrue();
+        assertThat(matcher.match("user", "/api/users/loginx").isPublic()).isFalse();
+        assertThat(matcher.match("user", "/api/users/me").isPublic()).isFalse();
+        assertThat(matcher.match("chat", "/api/open-chats/1").isPublic()).isFalse();
+    }
+
+    private static AuthPolicyProperties properties(AuthPolicyProperties.Rule... rules) {
+        AuthPolicyProperties properties = new AuthPolicyProperties();
+        properties.setRules(List.of(rules));
+        return properties;
+    }
+
+    private static AuthPolicyProperties.Rule rule(String path, Access access, UserRoleEnum... roles) {
+        AuthPolicyProperties.Rule rule = new AuthPolicyProperties.Rule();
+        rule.setPath(path);
+        rule.setAccess(access);
+        rule.setRoles(Set.of(roles));
+        return rule;
+    }
+}
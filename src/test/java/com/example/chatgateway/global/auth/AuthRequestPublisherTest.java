@@ -0,0 +1,166 @@
+package com.example.chatgateway.global.auth;
+
+import com.example.chatgateway.domain.dto.TokenDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.kafka.sender.SenderRecord;
+import reactor.kafka.sender.SenderResult;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuthRequestPublisherTest {
+
+    @SuppressWarnings("unchecked")
+    private final ReactiveKafkaProducerTemplate<String, TokenDTO> kafkaTemplate = mock(ReactiveKafkaProducerTemplate.class);
+
+    private AuthRequestPublisher publisher;
+
+    @AfterEach
+    void tearDown() {
+        if (publisher != null) {
+            publisher.dispose();
+        }
+    }
+
+    @Test
+    void concurrentPublishesAllComplete() {
+        AtomicInteger sent = new AtomicInteger();
+        when(kafkaTemplate.send(anyRecords())).thenAnswer(invocation -> acknowledge(invocation.getArgument(0), sent));
+        publisher = start(64, 10_000);
+
+        Flux<Void> publishes = Flux.range(0, 2_000)
+                .parallel(8)
+                .runOn(Schedulers.parallel())
+                .flatMap(i -> publisher.publish(new TokenDTO("id-" + i, "token-" + i)))
+                .sequential();
+
+        StepVerifier.create(publishes)
+                .verifyComplete();
+        assertThat(sent.get()).isEqualTo(2_000);
+        assertThat(publisher.queuedCount()).isZero();
+    }
+
+    @Test
+    void failedBatchFailsItsRequestsAndKeepsPipelineAlive() {
+        AtomicBoolean fail = new AtomicBoolean(true);
+        AtomicInteger sent = new AtomicInteger();
+        when(kafkaTemplate.send(anyRecords())).thenAnswer(invocation -> {
+            if (fail.get()) {
+                throw new IllegalStateException("broker unavailable");
+            }
+            return acknowledge(invocation.getArgument(0), sent);
+        });
+        publisher = start(1, 100);
+
+        StepVerifier.create(publisher.publish(new TokenDTO("id-1", "token-1")))
+                .expectErrorMessage("broker unavailable")
+                .verify(Duration.ofSeconds(5));
+
+        fail.set(false);
+        StepVerifier.create(publisher.publish(new TokenDTO("id-2", "token-2")))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+        assertThat(sent.get()).isEqualTo(1);
+    }
+
+    @Test
+    void pipelineErrorResubscribesAfterBackoff() {
+        AtomicInteger sent = new AtomicInteger();
+        when(kafkaTemplate.send(anyRecords())).thenAnswer(invocation -> acknowledge(invocation.getArgument(0), sent));
+        publisher = start(1, 100);
+
+        AtomicReference<?> requests = (AtomicReference<?>) ReflectionTestUtils.getField(publisher, "requests");
+        FluxSink<?> sink = (FluxSink<?>) requests.get();
+        sink.error(new IllegalStateException("pipeline failure"));
+
+        // 바로 재구독하지 않는다: 대기 중의 요청은 끝난 FluxSink에 버려지지 않고 바로 실패
+        assertThat(requests.get()).isNull();
+        StepVerifier.create(publisher.publish(new TokenDTO("id-1", "token-1")))
+                .expectErrorMessage("인증 요청 발행기가 동작 중이 아님")
+                .verify(Duration.ofSeconds(1));
+
+        // 대기 후 새 FluxSink로 다시 받는다
+        await(() -> requests.get() != null);
+        StepVerifier.create(publisher.publish(new TokenDTO("id-2", "token-2")))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+        assertThat(sent.get()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() {
+        // 브로커 응답이 오지 않아 전송 중인 배치가 풀리지 않는 동안 요청이 쌓이는 상황
+        when(kafkaTemplate.send(anyRecords())).thenReturn(Flux.never());
+        publisher = start(1, 10);
+
+        List<Throwable> rejected = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            publisher.publish(new TokenDTO("id-" + i, "token-" + i)).subscribe(null, rejected::add);
+        }
+
+        assertThat(rejected).isNotEmpty()
+                .allSatisfy(e -> assertThat(e).hasMessage("인증 요청 대기열 초과"));
+        assertThat(publisher.queuedCount()).isLessThanOrEqualTo(10);
+    }
+
+    private static Flux<SenderRecord<String, TokenDTO, Sinks.Empty<Void>>> anyRecords() {
+        return ArgumentMatchers.any();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 5s").isLessThan(deadline);
+            LockSupport.parkNanos(Duration.ofMillis(10).toNanos());
+        }
+    }
+
+    private AuthRequestPublisher start(int maxBatch, int queueCapacity) {
+        AuthRequestPublisher authRequestPublisher = new AuthRequestPublisher(kafkaTemplate, "authorization",
+                maxBatch, Duration.ofMillis(1), queueCapacity);
+        authRequestPublisher.start();
+        return authRequestPublisher;
+    }
+
+    private static Flux<SenderResult<Sinks.Empty<Void>>> acknowledge(
+            Flux<SenderRecord<String, TokenDTO, Sinks.Empty<Void>>> records, AtomicInteger sent) {
+        return records.map(record -> {
+            sent.incrementAndGet();
+            return new SenderResult<Sinks.Empty<Void>>() {
+                @Override
+                public org.apache.kafka.clients.producer.RecordMetadata recordMetadata() {
+                    return null;
+                }
+
+                @Override
+                public Exception exception() {
+                    return null;
+                }
+
+                @Override
+                public Sinks.Empty<Void> correlationMetadata() {
+                    return record.correlationMetadata();
+                }
+            };
+        });
+    }
+}
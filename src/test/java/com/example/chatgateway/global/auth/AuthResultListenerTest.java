@@ -0,0 +1,79 @@
+package com.example.chatgateway.global.auth;
+
+import com.example.chatgateway.domain.dto.UserInfoDTO;
+import com.example.chatgateway.domain.entity.UserRoleEnum;
+import com.example.chatgateway.global.config.ReactiveKafkaConsumerConfig;
+import com.example.chatgateway.global.serializer.BinaryDtoCodec;
+import com.example.chatgateway.global.serializer.DtoSerializer;
+import com.example.chatgateway.global.serializer.SerializationFormat;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EmbeddedKafka(partitions = 1, topics = "auth")
+class AuthResultListenerTest {
+
+    private static final UserInfoDTO USER_INFO =
+            new UserInfoDTO("fingerprint-1", "user@example.com", UserRoleEnum.USER.getRole(), "token");
+
+    private final DtoSerializer<UserInfoDTO> serializer =
+            new DtoSerializer<>(UserInfoDTO.class, BinaryDtoCodec.userInfo(), SerializationFormat.BINARY);
+    private final PendingAuthRegistry registry = new PendingAuthRegistry();
+
+    private AuthResultListener listener;
+
+    @AfterEach
+    void tearDown() {
+        if (listener != null) {
+            listener.dispose();
+        }
+    }
+
+    @Test
+    void undecodableRecordDoesNotBlockLaterResults(EmbeddedKafkaBroker broker) {
+        Mono<UserInfoDTO> waiter = registry.register("fingerprint-1");
+        listener = new AuthResultListener(receiverConfig(broker).kafkaReceiver(serializer), registry);
+        listener.subscribe();
+
+        Map<String, Object> props = KafkaTestUtils.producerProps(broker);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        try (KafkaProducer<String, byte[]> producer = new KafkaProducer<>(props)) {
+            // 모르는 버전의 바이너리, 손상된 JSON 다음에 정상 결과
+            byte[] unknownVersion = serializer.serialize(USER_INFO);
+            unknownVersion[1] = 99;
+            producer.send(new ProducerRecord<>("auth", "fingerprint-1", unknownVersion));
+            producer.send(new ProducerRecord<>("auth", "fingerprint-1", "{\"id\":".getBytes(StandardCharsets.UTF_8)));
+            producer.send(new ProducerRecord<>("auth", "fingerprint-1", serializer.serialize(USER_INFO)));
+        }
+
+        UserInfoDTO delivered = waiter.block(Duration.ofSeconds(30));
+        assertThat(delivered).usingRecursiveComparison().isEqualTo(USER_INFO);
+        assertThat(registry.size()).isZero();
+    }
+
+    private static ReactiveKafkaConsumerConfig receiverConfig(EmbeddedKafkaBroker broker) {
+        ReactiveKafkaConsumerConfig config = new ReactiveKafkaConsumerConfig();
+        ReflectionTestUtils.setField(config, "uri", broker.getBrokersAsString());
+        ReflectionTestUtils.setField(config, "groupId", "gateway-test");
+        ReflectionTestUtils.setField(config, "instanceId", "listener");
+        ReflectionTestUtils.setField(config, "autoOffsetReset", "earliest");
+        ReflectionTestUtils.setField(config, "topic", "authorization");
+        return config;
+    }
+}
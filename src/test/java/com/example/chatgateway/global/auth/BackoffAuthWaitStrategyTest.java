@@ -0,0 +1,56 @@
+package com.example.chatgateway.global.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BackoffAuthWaitStrategyTest {
+
+    @Test
+    void delaysGrowByMultiplierUntilMaxDelay() {
+        BackoffAuthWaitStrategy strategy = new BackoffAuthWaitStrategy(new AuthLatencyTracker(16, 0.9),
+                Duration.ofMillis(10), Duration.ofMillis(100), 2.0, 0);
+
+        assertThat(strategy.delay(0)).isEqualTo(Duration.ofMillis(10));
+        assertThat(strategy.delay(1)).isEqualTo(Duration.ofMillis(20));
+        assertThat(strategy.delay(2)).isEqualTo(Duration.ofMillis(40));
+        assertThat(strategy.delay(3)).isEqualTo(Duration.ofMillis(80));
+        assertThat(strategy.delay(4)).isEqualTo(Duration.ofMillis(100));
+        assertThat(strategy.delay(10)).isEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    void initialDelayFollowsRecordedLatencyPercentile() {
+        AuthLatencyTracker tracker = new AuthLatencyTracker(16, 0.5);
+        for (int i = 0; i < 10; i++) {
+            tracker.record(Duration.ofMillis(30).toNanos());
+        }
+        BackoffAuthWaitStrategy strategy = new BackoffAuthWaitStrategy(tracker,
+                Duration.ofMillis(10), Duration.ofMillis(500), 2.0, 0);
+
+        assertThat(strategy.delay(0)).isEqualTo(Duration.ofMillis(30));
+        assertThat(strategy.delay(1)).isEqualTo(Duration.ofMillis(60));
+    }
+
+    @Test
+    void initialDelayNeverDropsBelowMinimum() {
+        AuthLatencyTracker tracker = new AuthLatencyTracker(16, 0.5);
+        tracker.record(Duration.ofMillis(1).toNanos());
+        BackoffAuthWaitStrategy strategy = new BackoffAuthWaitStrategy(tracker,
+                Duration.ofMillis(10), Duration.ofMillis(500), 2.0, 0);
+
+        assertThat(strategy.delay(0)).isEqualTo(Duration.ofMillis(10));
+    }
+
+    @Test
+    void jitterStaysWithinBounds() {
+        BackoffAuthWaitStrategy strategy = new BackoffAuthWaitStrategy(new AuthLatencyTracker(16, 0.9),
+                Duration.ofMillis(100), Duration.ofSeconds(1), 2.0, 0.2);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(strategy.delay(1)).isBetween(Duration.ofMillis(160), Duration.ofMillis(240));
+        }
+    }
+}
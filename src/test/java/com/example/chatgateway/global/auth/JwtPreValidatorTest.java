@@ -0,0 +1,199 @@
+package com.example.chatgateway.global.auth;
+
+import com.example.chatgateway.domain.dto.UserInfoDTO;
+import com.example.chatgateway.domain.entity.UserRoleEnum;
+import com.example.chatgateway.global.auth.JwtPreValidator.Status;
+import com.example.chatgateway.global.auth.JwtPreValidator.Verification;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtPreValidatorTest {
+
+    private static final SecretKey SECRET = Jwts.SIG.HS256.key().build();
+    private static final SecretKey FORGED_SECRET = Jwts.SIG.HS256.key().build();
+    private static final Duration GRACE = Duration.ofDays(14);
+
+    @Test
+    void validHmacToken() {
+        JwtPreValidator validator = hmacValidator(Set.of());
+
+        Verification verification = validator.validate(token(SECRET, Duration.ofHours(1)));
+
+        assertThat(verification.status()).isEqualTo(Status.VALID);
+        assertThat(verification.isRejected()).isFalse();
+        assertThat(verification.claims().getSubject()).isEqualTo("user@example.com");
+    }
+
+    @Test
+    void validPublicKeyTokens() {
+        for (KeyPair keyPair : new KeyPair[]{Jwts.SIG.RS256.keyPair().build(), Jwts.SIG.ES256.keyPair().build()}) {
+            JwtPreValidator validator = publicKeyValidator(keyPair);
+
+            Verification verification = validator.validate(token(keyPair.getPrivate(), Duration.ofHours(1)));
+
+            assertThat(verification.status()).isEqualTo(Status.VALID);
+            assertThat(verification.claims().get("auth")).isEqualTo(UserRoleEnum.USER.getRole());
+        }
+    }
+
+    @Test
+    void forgedSignatureIsRejected() {
+        assertThat(hmacValidator(Set.of()).validate(token(FORGED_SECRET, Duration.ofHours(1))).status())
+                .isEqualTo(Status.REJECTED);
+
+        KeyPair trusted = Jwts.SIG.RS256.keyPair().build();
+        KeyPair forged = Jwts.SIG.RS256.keyPair().build();
+        assertThat(publicKeyValidator(trusted).validate(token(forged.getPrivate(), Duration.ofHours(1))).status())
+                .isEqualTo(Status.REJECTED);
+    }
+
+    @Test
+    void tamperedPayloadIsRejected() {
+        String[] parts = token(SECRET, Duration.ofHours(1)).split("\\.");
+        String payload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"sub\":\"admin@example.com\",\"auth\":\"ROLE_ADMIN\"}".getBytes());
+
+        Verification verification = hmacValidator(Set.of()).validate(parts[0] + "." + payload + "." + parts[2]);
+
+        assertThat(verification.isRejected()).isTrue();
+    }
+
+    @Test
+    void malformedAndUnsignedTokensAreRejected() {
+        JwtPreValidator validator = hmacValidator(Set.of());
+        String unsigned = Jwts.builder().subject("user@example.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .compact();
+
+        assertThat(validator.validate("not-a-jwt").isRejected()).isTrue();
+        assertThat(validator.validate("a.b.c").isRejected()).isTrue();
+        assertThat(validator.validate("").isRejected()).isTrue();
+        assertThat(validator.validate(unsigned).isRejected()).isTrue();
+    }
+
+    @Test
+    void expiredWithinGraceGoesToAuthService() {
+        JwtPreValidator validator = hmacValidator(Set.of("chat"));
+
+        Verification verification = validator.validate(token(SECRET, Duration.ofDays(-1)));
+
+        assertThat(verification.status()).isEqualTo(Status.REFRESHABLE);
+        assertThat(verification.isRejected()).isFalse();
+        // 재발급이 필요하므로 클레임 경로로 응답하지 않는다
+        assertThat(validator.servesFromClaims("chat", verification)).isFalse();
+    }
+
+    @Test
+    void expiredBeyondGraceIsRejected() {
+        Verification verification = hmacValidator(Set.of()).validate(token(SECRET, GRACE.plusDays(1).negated()));
+
+        assertThat(verification.status()).isEqualTo(Status.REJECTED);
+    }
+
+    @Test
+    void expiryWithinClockSkewIsStillValid() {
+        Verification verification = hmacValidator(Set.of()).validate(token(SECRET, Duration.ofSeconds(-10)));
+
+        assertThat(verification.status()).isEqualTo(Status.VALID);
+    }
+
+    @Test
+    void disabledModeAlwaysPasses() {
+        JwtPreValidator validator = new JwtPreValidator(false, "", "", Duration.ofSeconds(30), GRACE,
+                Set.of("chat"), "sub", "auth");
+
+        for (String token : new String[]{"not-a-jwt", "", token(FORGED_SECRET, Duration.ofHours(1)),
+                token(SECRET, Duration.ofDays(-30))}) {
+            Verification verification = validator.validate(token);
+
+            assertThat(verification.status()).isEqualTo(Status.SKIPPED);
+            assertThat(verification.isRejected()).isFalse();
+            assertThat(validator.servesFromClaims("chat", verification)).isFalse();
+        }
+    }
+
+    @Test
+    void servesFromClaimsOnlyForConfiguredRoutes() {
+        JwtPreValidator validator = hmacValidator(Set.of("chat", "message"));
+        Verification valid = validator.validate(token(SECRET, Duration.ofHours(1)));
+
+        assertThat(validator.servesFromClaims("chat", valid)).isTrue();
+        assertThat(validator.servesFromClaims("message", valid)).isTrue();
+        assertThat(validator.servesFromClaims("user", valid)).isFalse();
+        assertThat(validator.servesFromClaims(null, valid)).isFalse();
+        assertThat(hmacValidator(Set.of()).servesFromClaims("chat", valid)).isFalse();
+    }
+
+    @Test
+    void toUserInfoMapsConfiguredClaims() {
+        String token = token(SECRET, Duration.ofHours(1));
+        JwtPreValidator validator = hmacValidator(Set.of());
+
+        UserInfoDTO userInfo = validator.toUserInfo("fingerprint-1", token, validator.validate(token).claims());
+
+        assertThat(userInfo.getId()).isEqualTo("fingerprint-1");
+        assertThat(userInfo.getEmail()).isEqualTo("user@example.com");
+        assertThat(userInfo.getRole()).isEqualTo(UserRoleEnum.USER.getRole());
+        assertThat(userInfo.getToken()).isEqualTo(token);
+    }
+
+    @Test
+    void toUserInfoUsesCustomClaimNames() {
+        JwtPreValidator validator = new JwtPreValidator(true, encoded(SECRET), "", Duration.ofSeconds(30), GRACE,
+                Set.of(), "email", "role");
+        String token = Jwts.builder()
+                .subject("42")
+                .claim("email", "custom@example.com")
+                .claim("role", UserRoleEnum.ADMIN.getRole())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SECRET)
+                .compact();
+
+        UserInfoDTO userInfo = validator.toUserInfo("fingerprint-1", token, validator.validate(token).claims());
+
+        assertThat(userInfo.getEmail()).isEqualTo("custom@example.com");
+        assertThat(userInfo.getRole()).isEqualTo(UserRoleEnum.ADMIN.getRole());
+    }
+
+    @Test
+    void enabledWithoutKeyFailsAtStartup() {
+        assertThatThrownBy(() -> new JwtPreValidator(true, "", "", Duration.ofSeconds(30), GRACE, Set.of(), "sub", "auth"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static JwtPreValidator hmacValidator(Set<String> claimsRoutes) {
+        return new JwtPreValidator(true, encoded(SECRET), "", Duration.ofSeconds(30), GRACE, claimsRoutes, "sub", "auth");
+    }
+
+    private static JwtPreValidator publicKeyValidator(KeyPair keyPair) {
+        return new JwtPreValidator(true, "", encoded(keyPair.getPublic()), Duration.ofSeconds(30), GRACE,
+                Set.of(), "sub", "auth");
+    }
+
+    // expiresIn이 음수이면 그만큼 전에 만료된 토큰
+    private static String token(Key key, Duration expiresIn) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .subject("user@example.com")
+                .claim("auth", UserRoleEnum.USER.getRole())
+                .issuedAt(new Date(now - Duration.ofDays(30).toMillis()))
+                .expiration(new Date(now + expiresIn.toMillis()))
+                .signWith(key)
+                .compact();
+    }
+
+    private static String encoded(Key key) {
+        return Base64.getEncoder().encodeToString(key.getEncoded());
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.chatgateway.global.auth;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PendingAuthLimiterTest {
+
+    @Test
+    void runsTasksUpToMaxConcurrency() {
+        PendingAuthLimiter limiter = new PendingAuthLimiter(2, 0, Duration.ofSeconds(1));
+        Sinks.One<String> first = Sinks.one();
+        Sinks.One<String> second = Sinks.one();
+
+        Disposable a = limiter.run(first::asMono).subscribe();
+        Disposable b = limiter.run(second::asMono).subscribe();
+
+        assertThat(limiter.activeCount()).isEqualTo(2);
+        StepVerifier.create(limiter.run(() -> Mono.just("third")))
+                .expectErrorSatisfies(e -> assertServiceUnavailable(e))
+                .verify(Duration.ofSeconds(1));
+
+        first.tryEmitValue("first");
+        second.tryEmitValue("second");
+        assertThat(limiter.activeCount()).isZero();
+        a.dispose();
+        b.dispose();
+    }
+
+    @Test
+    void queuedTaskRunsWhenSlotIsReleased() {
+        PendingAuthLimiter limiter = new PendingAuthLimiter(1, 1, Duration.ofSeconds(5));
+        Sinks.One<String> first = Sinks.one();
+        Disposable running = limiter.run(first::asMono).subscribe();
+
+        StepVerifier.create(limiter.run(() -> Mono.just("queued")))
+                .then(() -> {
+                    assertThat(limiter.queuedCount()).isEqualTo(1);
+                    first.tryEmitValue("first");
+                })
+                .expectNext("queued")
+                .verifyComplete();
+
+        assertThat(limiter.activeCount()).isZero();
+        assertThat(limiter.queuedCount()).isZero();
+        running.dispose();
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() {
+        PendingAuthLimiter limiter = new PendingAuthLimiter(1, 1, Duration.ofSeconds(5));
+        Disposable running = limiter.run(Mono::never).subscribe();
+        Disposable queued = limiter.run(() -> Mono.just("queued")).subscribe();
+
+        StepVerifier.create(limiter.run(() -> Mono.just("rejected")))
+                .expectErrorSatisfies(e -> assertServiceUnavailable(e))
+                .verify(Duration.ofSeconds(1));
+
+        queued.dispose();
+        running.dispose();
+        assertThat(limiter.activeCount()).isZero();
+        assertThat(limiter.queuedCount()).isZero();
+    }
+
+    @Test
+    void queuedTaskTimesOutWithServiceUnavailable() {
+        PendingAuthLimiter limiter = new PendingAuthLimiter(1, 1, Duration.ofMillis(50));
+        Disposable running = limiter.run(Mono::never).subscribe();
+
+        StepVerifier.create(limiter.run(() -> Mono.just("late")))
+                .expectErrorSatisfies(e -> assertServiceUnavailable(e))
+                .verify(Duration.ofSeconds(1));
+
+        assertThat(limiter.queuedCount()).isZero();
+        assertThat(limiter.activeCount()).isEqualTo(1);
+        running.dispose();
+        assertThat(limiter.activeCount()).isZero();
+    }
+
+    @Test
+    void cancelledQueuedTaskDoesNotTakeSlot() {
+        PendingAuthLimiter limiter = new PendingAuthLimiter(1, 2, Duration.ofSeconds(5));
+        Sinks.One<String> first = Sinks.one();
+        Disposable running = limiter.run(first::asMono).subscribe();
+        Disposable cancelled = limiter.run(() -> Mono.just("cancelled")).subscribe();
+
+        StepVerifier.create(limiter.run(() -> Mono.just("next")))
+                .then(() -> {
+                    cancelled.dispose();
+                    assertThat(limiter.queuedCount()).isEqualTo(1);
+                    first.tryEmitValue("first");
+                })
+                .expectNext("next")
+                .verifyComplete();
+
+        assertThat(limiter.activeCount()).isZero();
+        running.dispose();
+    }
+
+    @Test
+    void failedTaskReleasesSlot() {
+        PendingAuthLimiter limiter = new PendingAuthLimiter(1, 0, Duration.ofSeconds(1));
+
+        StepVerifier.create(limiter.run(() -> Mono.error(new IllegalStateException("auth failed"))))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(1));
+
+        assertThat(limiter.activeCount()).isZero();
+        StepVerifier.create(limiter.run(() -> Mono.just("after")))
+                .expectNext("after")
+                .verifyComplete();
+    }
+
+    private static void assertServiceUnavailable(Throwable e) {
+        assertThat(e).isInstanceOf(ResponseStatusException.class);
+        assertThat(((ResponseStatusException) e).getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.chatgateway.global.auth;
+
+import com.example.chatgateway.domain.dto.UserInfoDTO;
+import com.example.chatgateway.domain.entity.UserRoleEnum;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PendingAuthRegistryTest {
+
+    private final PendingAuthRegistry registry = new PendingAuthRegistry();
+
+    @Test
+    void completeWakesWaiterOffTheCompletingThread() throws InterruptedException {
+        UserInfoDTO userInfo = new UserInfoDTO("user-1", "user@example.com", UserRoleEnum.USER.getRole(), "token");
+        Mono<UserInfoDTO> waiter = registry.register("fingerprint-1");
+        AtomicReference<String> deliveredOn = new AtomicReference<>();
+
+        Thread kafkaThread = new Thread(() -> registry.complete("fingerprint-1", userInfo), "kafka-receiver-stand-in");
+        Mono<UserInfoDTO> result = waiter.doOnNext(value -> deliveredOn.set(Thread.currentThread().getName()));
+        kafkaThread.start();
+
+        assertThat(result.block(Duration.ofSeconds(5))).isSameAs(userInfo);
+        kafkaThread.join();
+        assertThat(deliveredOn.get()).startsWith("parallel-");
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    void completeWithoutWaiterReturnsFalse() {
+        UserInfoDTO userInfo = new UserInfoDTO("user-1", "user@example.com", UserRoleEnum.USER.getRole(), "token");
+
+        assertThat(registry.complete("unknown", userInfo)).isFalse();
+        assertThat(registry.complete(null, userInfo)).isFalse();
+    }
+}
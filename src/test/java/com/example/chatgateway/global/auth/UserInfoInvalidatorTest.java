@@ -0,0 +1,53 @@
+package com.example.chatgateway.global.auth;
+
+import com.example.chatgateway.domain.dto.UserInfoDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static com.example.chatgateway.global.constant.Constants.REDIS_INVALIDATE_CHANNEL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserInfoInvalidatorTest {
+
+    private final ReactiveStringRedisTemplate redisTemplate = mock(ReactiveStringRedisTemplate.class);
+    private final UserInfoNearCache nearCache = new UserInfoNearCache(100, Duration.ofMinutes(1));
+    private final UserInfoInvalidator invalidator = new UserInfoInvalidator(redisTemplate, nearCache);
+
+    @Test
+    void publishMigratedIsLazy() {
+        nearCache.put("old", new UserInfoDTO("old", "user@example.com", "ROLE_USER", "token"));
+
+        Mono<Void> publish = invalidator.publishMigrated("old", "new");
+
+        assertThat(nearCache.get("old")).isNotNull();
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+
+        when(redisTemplate.convertAndSend(REDIS_INVALIDATE_CHANNEL, "MIGRATED:old:new")).thenReturn(Mono.just(1L));
+        StepVerifier.create(publish).verifyComplete();
+
+        assertThat(nearCache.get("old")).isNull();
+        verify(redisTemplate).convertAndSend(eq(REDIS_INVALIDATE_CHANNEL), eq("MIGRATED:old:new"));
+    }
+
+    @Test
+    void publishMigratedFailureIsBestEffort() {
+        nearCache.put("old", new UserInfoDTO("old", "user@example.com", "ROLE_USER", "token"));
+        when(redisTemplate.convertAndSend(anyString(), anyString()))
+                .thenReturn(Mono.error(new RedisConnectionFailureException("down")));
+
+        StepVerifier.create(invalidator.publishMigrated("old", "new")).verifyComplete();
+
+        assertThat(nearCache.get("old")).isNull();
+    }
+}
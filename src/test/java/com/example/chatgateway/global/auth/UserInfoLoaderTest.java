@@ -0,0 +1,145 @@
+package com.example.chatgateway.global.auth;
+
+import com.example.chatgateway.domain.dto.TokenDTO;
+import com.example.chatgateway.domain.dto.UserInfoDTO;
+import com.example.chatgateway.domain.entity.UserRoleEnum;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserInfoLoaderTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final UserInfoDTO USER_INFO =
+            new UserInfoDTO("fingerprint-1", "user@example.com", UserRoleEnum.USER.getRole(), "token");
+
+    private final AuthRequestPublisher authRequestPublisher = mock(AuthRequestPublisher.class);
+    @SuppressWarnings("unchecked")
+    private final ReactiveRedisOperations<String, UserInfoDTO> redisOperations = mock(ReactiveRedisOperations.class);
+    @SuppressWarnings("unchecked")
+    private final ReactiveValueOperations<String, UserInfoDTO> valueOperations = mock(ReactiveValueOperations.class);
+    private final PendingAuthRegistry pendingAuthRegistry = spy(new PendingAuthRegistry());
+    private final UserInfoNearCache userInfoNearCache = new UserInfoNearCache(100, Duration.ofMinutes(1));
+
+    private UserInfoLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        when(authRequestPublisher.publish(any(TokenDTO.class))).thenReturn(Mono.empty());
+        when(redisOperations.opsForValue()).thenReturn(valueOperations);
+        // Redis에는 결과가 없어서 Kafka 결과로만 완료된다
+        when(valueOperations.get(anyString())).thenReturn(Mono.empty());
+
+        loader = new UserInfoLoader(authRequestPublisher, redisOperations, pendingAuthRegistry, userInfoNearCache,
+                mock(UserInfoInvalidator.class), new AuthMetrics(new SimpleMeterRegistry()),
+                new PendingAuthLimiter(16, 16, Duration.ofSeconds(1)),
+                new AuthCircuitBreaker(20, Duration.ofSeconds(10)),
+                new FixedAuthWaitStrategy(Duration.ofSeconds(10)),
+                new AuthLatencyTracker(16, 0.9));
+    }
+
+    @Test
+    void concurrentLoadsShareOnePublishAndOneWait() {
+        Mono<UserInfoDTO> first = loader.load("fingerprint-1", "token", TIMEOUT);
+        Mono<UserInfoDTO> second = loader.load("fingerprint-1", "token", TIMEOUT);
+        Mono<UserInfoDTO> third = loader.load("fingerprint-1", "token", TIMEOUT);
+
+        StepVerifier.create(Mono.zip(first, second, third))
+                .then(() -> {
+                    assertThat(loader.inFlightCount()).isEqualTo(1);
+                    pendingAuthRegistry.complete("fingerprint-1", USER_INFO);
+                })
+                .assertNext(results -> {
+                    assertThat(results.getT1()).isSameAs(USER_INFO);
+                    assertThat(results.getT2()).isSameAs(USER_INFO);
+                    assertThat(results.getT3()).isSameAs(USER_INFO);
+                })
+                .verifyComplete();
+
+        verify(authRequestPublisher, times(1)).publish(any(TokenDTO.class));
+        verify(pendingAuthRegistry, times(1)).register("fingerprint-1");
+        awaitFinished("fingerprint-1");
+        assertThat(loader.inFlightCount()).isZero();
+        assertThat(userInfoNearCache.get("fingerprint-1")).isSameAs(USER_INFO);
+    }
+
+    @Test
+    void cancelledFirstSubscriberDoesNotFailOthers() {
+        Disposable first = loader.load("fingerprint-1", "token", TIMEOUT).subscribe();
+
+        StepVerifier.create(loader.load("fingerprint-1", "token", TIMEOUT))
+                .then(() -> {
+                    first.dispose();
+                    pendingAuthRegistry.complete("fingerprint-1", USER_INFO);
+                })
+                .expectNext(USER_INFO)
+                .verifyComplete();
+
+        verify(authRequestPublisher, times(1)).publish(any(TokenDTO.class));
+        awaitFinished("fingerprint-1");
+        assertThat(loader.inFlightCount()).isZero();
+    }
+
+    @Test
+    void differentFingerprintsAreNotMerged() {
+        UserInfoDTO other = new UserInfoDTO("fingerprint-2", "other@example.com", UserRoleEnum.USER.getRole(), "token-2");
+
+        StepVerifier.create(Mono.zip(loader.load("fingerprint-1", "token", TIMEOUT),
+                        loader.load("fingerprint-2", "token-2", TIMEOUT)))
+                .then(() -> {
+                    pendingAuthRegistry.complete("fingerprint-1", USER_INFO);
+                    pendingAuthRegistry.complete("fingerprint-2", other);
+                })
+                .expectNextMatches(results -> results.getT1() == USER_INFO && results.getT2() == other)
+                .verifyComplete();
+
+        verify(authRequestPublisher, times(2)).publish(any(TokenDTO.class));
+    }
+
+    @Test
+    void finishedLoadDoesNotEvictNewerEntry() {
+        Mono<UserInfoDTO> newer = Mono.never();
+
+        StepVerifier.create(loader.load("fingerprint-1", "token", TIMEOUT))
+                .then(() -> {
+                    // 끝나기 직전에 같은 핑거프린트의 새 요청이 자리를 차지한 상황
+                    inFlight().put("fingerprint-1", newer);
+                    pendingAuthRegistry.complete("fingerprint-1", USER_INFO);
+                })
+                .expectNext(USER_INFO)
+                .verifyComplete();
+
+        awaitFinished("fingerprint-1");
+        assertThat(inFlight()).containsEntry("fingerprint-1", newer);
+    }
+
+    // 결과는 parallel 스레드에서 전달되고 정리(doFinally)는 전달 후에 돈다.
+    // 대기 해제(pendingAuthRegistry.remove)는 in-flight 정리보다 안쪽이라 나중에 불리므로 이것으로 정리 완료를 확인한다
+    private void awaitFinished(String id) {
+        verify(pendingAuthRegistry, timeout(1_000)).remove(id);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Mono<UserInfoDTO>> inFlight() {
+        return (Map<String, Mono<UserInfoDTO>>) ReflectionTestUtils.getField(loader, "inFlight");
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.chatgateway.global.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReactiveKafkaConsumerConfigTest {
+
+    @Test
+    void groupIdIsStablePerInstance() {
+        assertThat(config("gateway-1").instanceGroupId()).isEqualTo("gateway-gateway-1");
+        assertThat(config("gateway-1").instanceGroupId()).isEqualTo(config("gateway-1").instanceGroupId());
+    }
+
+    @Test
+    void missingInstanceIdFailsInsteadOfRandomGroup() {
+        assertThatThrownBy(() -> config("").instanceGroupId())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("kafka.instance-id");
+    }
+
+    private static ReactiveKafkaConsumerConfig config(String instanceId) {
+        ReactiveKafkaConsumerConfig config = new ReactiveKafkaConsumerConfig();
+        ReflectionTestUtils.setField(config, "groupId", "gateway");
+        ReflectionTestUtils.setField(config, "instanceId", instanceId);
+        return config;
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.chatgateway.global.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // 초당 10개, 순간 5개: 100ms마다 토큰 하나
+    private final RateLimitPolicy policy = new RateLimitPolicy(10, 5);
+
+    @Test
+    void allowsBurstThenRejects() {
+        long now = SECOND;
+        TokenBucket bucket = new TokenBucket(policy, now);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire(now)).isTrue();
+        }
+        assertThat(bucket.tryAcquire(now)).isFalse();
+    }
+
+    @Test
+    void refillsOneTokenPerEmissionInterval() {
+        long now = SECOND;
+        TokenBucket bucket = new TokenBucket(policy, now);
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire(now);
+        }
+
+        assertThat(bucket.tryAcquire(now + policy.emissionIntervalNanos() - 1)).isFalse();
+        assertThat(bucket.tryAcquire(now + policy.emissionIntervalNanos())).isTrue();
+        assertThat(bucket.tryAcquire(now + policy.emissionIntervalNanos())).isFalse();
+    }
+
+    @Test
+    void sustainedRateMatchesPolicy() {
+        long start = SECOND;
+        TokenBucket bucket = new TokenBucket(policy, start);
+
+        // 1ms 간격으로 10초 동안 요청: 순간 허용량 + 초당 10개
+        int allowed = 0;
+        for (long now = start; now < start + 10 * SECOND; now += TimeUnit.MILLISECONDS.toNanos(1)) {
+            if (bucket.tryAcquire(now)) {
+                allowed++;
+            }
+        }
+
+        assertThat(allowed).isBetween(100 + 5 - 1, 100 + 5);
+    }
+
+    @Test
+    void idleTimeDoesNotAccumulateBeyondBurst() {
+        long now = SECOND;
+        TokenBucket bucket = new TokenBucket(policy, now);
+
+        long later = now + 60 * SECOND;
+        int allowed = 0;
+        while (bucket.tryAcquire(later)) {
+            allowed++;
+        }
+
+        assertThat(allowed).isEqualTo(5);
+    }
+
+    @Test
+    void blockUntilRejectsUntilDeadline() {
+        long now = SECOND;
+        TokenBucket bucket = new TokenBucket(policy, now);
+        long until = now + SECOND;
+
+        bucket.blockUntil(until);
+
+        assertThat(bucket.tryAcquire(now)).isFalse();
+        assertThat(bucket.tryAcquire(until - 1)).isFalse();
+        assertThat(bucket.tryAcquire(until)).isTrue();
+    }
+
+    @Test
+    void blockUntilNeverShortensAnExistingBlock() {
+        long now = SECOND;
+        TokenBucket bucket = new TokenBucket(policy, now);
+
+        bucket.blockUntil(now + 2 * SECOND);
+        bucket.blockUntil(now + SECOND);
+
+        assertThat(bucket.tryAcquire(now + SECOND)).isFalse();
+        assertThat(bucket.tryAcquire(now + 2 * SECOND)).isTrue();
+    }
+
+    @Test
+    void drainUnsyncedReturnsUsageSinceLastDrain() {
+        long now = SECOND;
+        TokenBucket bucket = new TokenBucket(policy, now);
+        bucket.tryAcquire(now);
+        bucket.tryAcquire(now);
+        bucket.tryAcquire(now);
+
+        assertThat(bucket.drainUnsynced()).isEqualTo(3);
+        assertThat(bucket.drainUnsynced()).isZero();
+    }
+
+    @Test
+    void isIdleOnlyWhenFullAndSynced() {
+        long now = SECOND;
+        TokenBucket bucket = new TokenBucket(policy, now);
+        assertThat(bucket.isIdle(now)).isTrue();
+
+        bucket.tryAcquire(now);
+        assertThat(bucket.isIdle(now + SECOND)).isFalse();
+
+        bucket.drainUnsynced();
+        assertThat(bucket.isIdle(now)).isFalse();
+        assertThat(bucket.isIdle(now + policy.emissionIntervalNanos())).isTrue();
+    }
+
+    @Test
+    void concurrentCallersNeverExceedBurst() throws InterruptedException {
+        long now = SECOND;
+        TokenBucket bucket = new TokenBucket(new RateLimitPolicy(1, 100), now);
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicInteger allowed = new AtomicInteger();
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < 1_000; j++) {
+                        if (bucket.tryAcquire(now)) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(allowed.get()).isEqualTo(100);
+        assertThat(bucket.drainUnsynced()).isEqualTo(100);
+    }
+}
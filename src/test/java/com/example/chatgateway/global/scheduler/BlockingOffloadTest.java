@@ -0,0 +1,105 @@
+package com.example.chatgateway.global.scheduler;
+
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.resources.LoopResources;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlockingOffloadTest {
+
+    private static final Duration BLOCKING_CALL = Duration.ofMillis(500);
+
+    private final LoopResources loopResources = LoopResources.create("test-loop", 1, true);
+    private final Scheduler scheduler = Schedulers.newBoundedElastic(4, 100, "blocking");
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+        loopResources.dispose();
+    }
+
+    @Test
+    void blockingCallRunsOffTheEventLoopAndLeavesItResponsive() throws Exception {
+        BlockingOffload offload = new BlockingOffload(scheduler, false);
+        EventLoop eventLoop = eventLoop();
+        AtomicBoolean subscribedOnNonBlocking = new AtomicBoolean();
+        CompletableFuture<String> blockingThread = new CompletableFuture<>();
+
+        // 이벤트 루프(리액터 네티 서버 스레드와 같은 NonBlocking 스레드)에서 구독
+        eventLoop.execute(() -> {
+            subscribedOnNonBlocking.set(Schedulers.isInNonBlockingThread());
+            offload.call(() -> {
+                        Thread.sleep(BLOCKING_CALL.toMillis());
+                        return Thread.currentThread().getName();
+                    })
+                    .subscribe(blockingThread::complete, blockingThread::completeExceptionally);
+        });
+
+        // 블로킹 호출이 진행 중인 동안에도 이벤트 루프는 다른 작업을 바로 처리한다
+        long start = System.nanoTime();
+        String loopThread = eventLoop.submit(() -> Thread.currentThread().getName()).get(1, TimeUnit.SECONDS);
+        Duration loopLatency = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(subscribedOnNonBlocking).isTrue();
+        assertThat(loopLatency).isLessThan(BLOCKING_CALL.dividedBy(2));
+        assertThat(blockingThread.isDone()).isFalse();
+        assertThat(blockingThread.get(5, TimeUnit.SECONDS))
+                .startsWith("blocking")
+                .isNotEqualTo(loopThread);
+    }
+
+    @Test
+    void refusesToBlockOnNonBlockingScheduler() {
+        BlockingOffload misconfigured = new BlockingOffload(Schedulers.parallel(), false);
+        AtomicBoolean called = new AtomicBoolean();
+
+        StepVerifier.create(misconfigured.run(() -> called.set(true)))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("parallel"))
+                .verify(Duration.ofSeconds(5));
+        assertThat(called).isFalse();
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void virtualThreadsAreUnavailableBeforeJava21() {
+        assertThat(VirtualThreadSchedulers.isSupported()).isFalse();
+        assertThat(VirtualThreadSchedulers.create("blocking")).isEmpty();
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreadSchedulerRunsBlockingCallsOnVirtualThreads() throws Exception {
+        Scheduler virtual = VirtualThreadSchedulers.create("blocking").orElseThrow();
+        try {
+            AtomicReference<Thread> thread = new AtomicReference<>();
+            new BlockingOffload(virtual, true).run(() -> thread.set(Thread.currentThread()))
+                    .block(Duration.ofSeconds(5));
+
+            assertThat(thread.get().getName()).startsWith("blocking-");
+            assertThat(Thread.class.getMethod("isVirtual").invoke(thread.get())).isEqualTo(true);
+        } finally {
+            virtual.dispose();
+        }
+    }
+
+    private EventLoop eventLoop() {
+        EventLoopGroup group = loopResources.onServer(false);
+        return group.next();
+    }
+}
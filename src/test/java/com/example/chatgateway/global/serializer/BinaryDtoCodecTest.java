@@ -0,0 +1,123 @@
+package com.example.chatgateway.global.serializer;
+
+import com.example.chatgateway.domain.dto.TokenDTO;
+import com.example.chatgateway.domain.dto.UserInfoDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryDtoCodecTest {
+
+    private final BinaryDtoCodec<UserInfoDTO> userInfoCodec = BinaryDtoCodec.userInfo();
+    private final BinaryDtoCodec<TokenDTO> tokenCodec = BinaryDtoCodec.token();
+
+    @Test
+    void userInfoRoundTrip() {
+        UserInfoDTO userInfo = new UserInfoDTO("fingerprint-1", "사용자@example.com", "ROLE_USER", "header.payload.signature");
+
+        UserInfoDTO decoded = userInfoCodec.decode(userInfoCodec.encode(userInfo));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(userInfo);
+    }
+
+    @Test
+    void tokenRoundTrip() {
+        TokenDTO token = new TokenDTO("fingerprint-1", "header.payload.signature");
+
+        TokenDTO decoded = tokenCodec.decode(tokenCodec.encode(token));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(token);
+    }
+
+    @Test
+    void nullAndEmptyFieldsAreDistinct() {
+        UserInfoDTO userInfo = new UserInfoDTO(null, "", null, "token");
+
+        UserInfoDTO decoded = userInfoCodec.decode(userInfoCodec.encode(userInfo));
+
+        assertThat(decoded.getId()).isNull();
+        assertThat(decoded.getEmail()).isEmpty();
+        assertThat(decoded.getRole()).isNull();
+        assertThat(decoded.getToken()).isEqualTo("token");
+    }
+
+    @Test
+    void longFieldsUseMultiByteLengths() {
+        String token = "x".repeat(20_000);
+        TokenDTO decoded = tokenCodec.decode(tokenCodec.encode(new TokenDTO("id", token)));
+
+        assertThat(decoded.getToken()).isEqualTo(token);
+    }
+
+    @Test
+    void rejectsNonBinaryInput() {
+        assertThatThrownBy(() -> userInfoCodec.decode("{\"id\":\"x\"}".getBytes()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> userInfoCodec.decode(new byte[]{BinaryDtoCodec.MAGIC}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsUnknownVersion() {
+        byte[] bytes = tokenCodec.encode(new TokenDTO("id", "token"));
+        bytes[1] = 99;
+
+        assertThatThrownBy(() -> tokenCodec.decode(bytes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("버전");
+    }
+
+    @Test
+    void rejectsOtherSchema() {
+        byte[] bytes = tokenCodec.encode(new TokenDTO("id", "token"));
+
+        assertThatThrownBy(() -> userInfoCodec.decode(bytes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("스키마");
+    }
+
+    @Test
+    void rejectsTruncatedInput() {
+        byte[] bytes = tokenCodec.encode(new TokenDTO("id", "token"));
+
+        for (int length = 4; length < bytes.length; length++) {
+            byte[] truncated = Arrays.copyOf(bytes, length);
+            assertThatThrownBy(() -> tokenCodec.decode(truncated))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void rejectsTrailingBytes() {
+        byte[] bytes = tokenCodec.encode(new TokenDTO("id", "token"));
+        byte[] padded = Arrays.copyOf(bytes, bytes.length + 1);
+
+        assertThatThrownBy(() -> tokenCodec.decode(padded))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("남은 바이트");
+    }
+
+    @Test
+    void rejectsNegativeFieldLength() {
+        // 5바이트 varint 0xFF 0xFF 0xFF 0xFF 0x0F -> -1 (길이 + 1), 이후 -2로 해석되는 길이
+        byte[] bytes = {BinaryDtoCodec.MAGIC, BinaryDtoCodec.VERSION, BinaryDtoCodec.SCHEMA_TOKEN, 2,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F, 'a'};
+
+        assertThatThrownBy(() -> tokenCodec.decode(bytes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("필드 길이");
+    }
+
+    @Test
+    void rejectsOverlongVarInt() {
+        byte[] bytes = {BinaryDtoCodec.MAGIC, BinaryDtoCodec.VERSION, BinaryDtoCodec.SCHEMA_TOKEN, 2,
+                (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01};
+
+        assertThatThrownBy(() -> tokenCodec.decode(bytes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("필드 길이");
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.chatgateway.global.serializer;
+
+import com.example.chatgateway.domain.dto.TokenDTO;
+import com.example.chatgateway.domain.dto.UserInfoDTO;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DtoSerializerTest {
+
+    private static final UserInfoDTO USER_INFO = new UserInfoDTO("fingerprint-1", "user@example.com", "ROLE_USER", "token");
+
+    private final DtoSerializer<UserInfoDTO> jsonSerializer =
+            new DtoSerializer<>(UserInfoDTO.class, BinaryDtoCodec.userInfo(), SerializationFormat.JSON);
+    private final DtoSerializer<UserInfoDTO> binarySerializer =
+            new DtoSerializer<>(UserInfoDTO.class, BinaryDtoCodec.userInfo(), SerializationFormat.BINARY);
+
+    @Test
+    void jsonRoundTrip() {
+        byte[] bytes = jsonSerializer.serialize(USER_INFO);
+
+        assertThat(bytes[0]).isEqualTo((byte) '{');
+        assertThat(jsonSerializer.deserialize(bytes)).usingRecursiveComparison().isEqualTo(USER_INFO);
+    }
+
+    @Test
+    void readsBothFormatsRegardlessOfWriteFormat() {
+        byte[] json = jsonSerializer.serialize(USER_INFO);
+        byte[] binary = binarySerializer.serialize(USER_INFO);
+
+        assertThat(binary[0]).isEqualTo(BinaryDtoCodec.MAGIC);
+        assertThat(jsonSerializer.deserialize(binary)).usingRecursiveComparison().isEqualTo(USER_INFO);
+        assertThat(binarySerializer.deserialize(json)).usingRecursiveComparison().isEqualTo(USER_INFO);
+        assertThat(binarySerializer.deserialize("topic", json)).usingRecursiveComparison().isEqualTo(USER_INFO);
+    }
+
+    @Test
+    void jsonIgnoresUnknownProperties() {
+        byte[] json = "{\"id\":\"fingerprint-1\",\"email\":\"user@example.com\",\"issuedAt\":1}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(jsonSerializer.deserialize(json).getEmail()).isEqualTo("user@example.com");
+    }
+
+    @Test
+    void nullAndEmptyValues() {
+        assertThat(jsonSerializer.serialize(null)).isEmpty();
+        assertThat(jsonSerializer.deserialize(new byte[0])).isNull();
+        assertThat(jsonSerializer.deserialize((byte[]) null)).isNull();
+        assertThat(jsonSerializer.serialize("topic", null)).isNull();
+        assertThat(jsonSerializer.deserialize("topic", null)).isNull();
+    }
+
+    @Test
+    void corruptRedisValueThrowsRedisSerializationException() {
+        byte[] corruptBinary = {BinaryDtoCodec.MAGIC, BinaryDtoCodec.VERSION, BinaryDtoCodec.SCHEMA_USER_INFO, 4,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F};
+        byte[] corruptJson = "{\"id\":".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> jsonSerializer.deserialize(corruptBinary)).isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> jsonSerializer.deserialize(corruptJson)).isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void corruptKafkaValueIsSkippedInsteadOfFailingPoll() {
+        byte[] corruptBinary = {BinaryDtoCodec.MAGIC, BinaryDtoCodec.VERSION, BinaryDtoCodec.SCHEMA_USER_INFO, 4,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F};
+        byte[] truncated = Arrays.copyOf(binarySerializer.serialize(USER_INFO), 10);
+        byte[] corruptJson = "not json".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(jsonSerializer.deserialize("auth", corruptBinary)).isNull();
+        assertThat(binarySerializer.deserialize("auth", truncated)).isNull();
+        assertThat(jsonSerializer.deserialize("auth", corruptJson)).isNull();
+    }
+
+    @Test
+    void unknownKafkaFormatIsSkipped() {
+        byte[] unknownMagic = {0x7F, BinaryDtoCodec.VERSION, BinaryDtoCodec.SCHEMA_USER_INFO, 0};
+        byte[] unknownVersion = binarySerializer.serialize(USER_INFO);
+        unknownVersion[1] = 99;
+        byte[] otherSchema = new DtoSerializer<>(TokenDTO.class, BinaryDtoCodec.token(), SerializationFormat.BINARY)
+                .serialize("auth", new TokenDTO("fingerprint-1", "token"));
+
+        assertThat(binarySerializer.deserialize("auth", unknownMagic)).isNull();
+        assertThat(binarySerializer.deserialize("auth", unknownVersion)).isNull();
+        assertThat(binarySerializer.deserialize("auth", otherSchema)).isNull();
+        // Redis 쪽은 그대로 예외 (템플릿 호출부의 오류 처리로 넘긴다)
+        assertThatThrownBy(() -> binarySerializer.deserialize(unknownVersion)).isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void jsonKafkaValuesKeepTypeIdHeader() {
+        DtoSerializer<TokenDTO> serializer =
+                new DtoSerializer<>(TokenDTO.class, BinaryDtoCodec.token(), SerializationFormat.JSON);
+        RecordHeaders headers = new RecordHeaders();
+
+        serializer.serialize("authorization", headers, new TokenDTO("fingerprint-1", "token"));
+        serializer.serialize("authorization", headers, new TokenDTO("fingerprint-1", "token"));
+
+        Header[] typeIds = headers.toArray();
+        assertThat(typeIds).hasSize(1);
+        assertThat(typeIds[0].key()).isEqualTo(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+        assertThat(new String(typeIds[0].value(), StandardCharsets.UTF_8)).isEqualTo(TokenDTO.class.getName());
+    }
+
+    @Test
+    void binaryKafkaValuesHaveNoTypeIdHeader() {
+        DtoSerializer<TokenDTO> serializer =
+                new DtoSerializer<>(TokenDTO.class, BinaryDtoCodec.token(), SerializationFormat.BINARY);
+        RecordHeaders headers = new RecordHeaders();
+
+        serializer.serialize("authorization", headers, new TokenDTO("fingerprint-1", "token"));
+
+        assertThat(headers.toArray()).isEmpty();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.chatgateway.global.websocket;
+
+import com.example.chatgateway.global.ratelimit.GatewayRateLimiter;
+import com.example.chatgateway.global.ratelimit.RateLimitPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimitedWebSocketSessionTest {
+
+    private static final String SEND = "SEND\ndestination:/pub/chat\n\nhello\u0000";
+
+    private final GatewayRateLimiter gatewayRateLimiter =
+            new GatewayRateLimiter(null, new SimpleMeterRegistry(), Duration.ofSeconds(1), false);
+    private final WebSocketSession delegate = mock(WebSocketSession.class);
+
+    @Test
+    void closesSessionWhenFramesExceedUserLimit() {
+        when(delegate.receive()).thenReturn(Flux.just(text(SEND), text(SEND), text(SEND), text(SEND)));
+        when(delegate.close(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(session(new RateLimitPolicy(1, 2)).receive())
+                .expectNextCount(2)
+                .verifyComplete();
+
+        verify(delegate, times(1)).close(RateLimitedWebSocketSession.RATE_LIMITED);
+    }
+
+    @Test
+    void heartbeatsAreNotCounted() {
+        when(delegate.receive()).thenReturn(Flux.just(text("\n"), text("\r\n"), text(SEND), text("\n"), text(SEND)));
+
+        StepVerifier.create(session(new RateLimitPolicy(1, 2)).receive())
+                .expectNextCount(5)
+                .verifyComplete();
+
+        verify(delegate, never()).close(any());
+    }
+
+    @Test
+    void routesWithoutUserLimitPassEveryFrame() {
+        when(delegate.receive()).thenReturn(Flux.range(0, 100).map(i -> text(SEND)));
+
+        StepVerifier.create(session(null).receive())
+                .expectNextCount(100)
+                .verifyComplete();
+
+        verify(delegate, never()).close(any());
+    }
+
+    private RateLimitedWebSocketSession session(RateLimitPolicy userLimit) {
+        Route.AsyncBuilder route = Route.async()
+                .id("message")
+                .uri("http://localhost:8083")
+                .predicate(exchange -> true);
+        if (userLimit != null) {
+            route.metadata(RateLimitPolicy.USER_METADATA, userLimit);
+        }
+
+        MockServerWebExchange handshake = MockServerWebExchange.from(MockServerHttpRequest.get("/stomp/chat"));
+        handshake.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route.build());
+        return new RateLimitedWebSocketSession(delegate, gatewayRateLimiter, handshake, "user@example.com");
+    }
+
+    private static WebSocketMessage text(String payload) {
+        return new WebSocketMessage(WebSocketMessage.Type.TEXT,
+                DefaultDataBufferFactory.sharedInstance.wrap(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.chatgateway.load;
+
+import com.example.chatgateway.global.scheduler.BlockingOffload;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트용 가상의 블로킹 조회 (블로킹 JDBC/IO 어댑터 대역)
+ * - NONE: 조회 없음
+ * - INLINE: 이벤트 루프 스레드에서 바로 블로킹 (Scheduler 없이 블로킹 호출을 섞던 기존 방식)
+ * - OFFLOAD: BlockingOffload를 거쳐 블로킹 전용 Scheduler에서 실행
+ */
+class BlockingLookupFilter implements GlobalFilter, Ordered {
+
+    enum Mode {
+        NONE, INLINE, OFFLOAD
+    }
+
+    private final BlockingOffload blockingOffload;
+    private final Mode mode;
+    private final Duration latency;
+
+    BlockingLookupFilter(BlockingOffload blockingOffload, Mode mode, Duration latency) {
+        this.blockingOffload = blockingOffload;
+        this.mode = mode;
+        this.latency = latency;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        return switch (mode) {
+            case NONE -> chain.filter(exchange);
+            case INLINE -> {
+                lookup();
+                yield chain.filter(exchange);
+            }
+            case OFFLOAD -> blockingOffload.run(this::lookup)
+                    .then(Mono.defer(() -> chain.filter(exchange)));
+        };
+    }
+
+    // 요청을 받은 이벤트 루프에서 실행되도록 가장 먼저
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    String describe() {
+        if (mode == Mode.NONE) {
+            return "none";
+        }
+        String scheduler = mode == Mode.INLINE ? "event loop"
+                : blockingOffload.isVirtualThreads() ? "virtual threads" : "boundedElastic";
+        return String.format("%s %dms on %s", mode.name().toLowerCase(), latency.toMillis(), scheduler);
+    }
+
+    private void lookup() {
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.chatgateway.load;
+
+import com.example.chatgateway.domain.dto.TokenDTO;
+import com.example.chatgateway.domain.dto.UserInfoDTO;
+import com.example.chatgateway.domain.entity.UserRoleEnum;
+import com.example.chatgateway.global.serializer.BinaryDtoCodec;
+import com.example.chatgateway.global.serializer.DtoSerializer;
+import com.example.chatgateway.global.serializer.SerializationFormat;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.common.errors.WakeupException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.chatgateway.global.constant.Constants.REDIS_ACCESS_KEY;
+import static com.example.chatgateway.global.constant.Constants.REDIS_ACCESS_TTL_SECONDS;
+
+/**
+ * 부하 테스트용 인증 서비스 대역
+ * TokenDTO 요청을 받으면 실제 인증 서비스처럼 Redis에 UserInfoDTO를 저장하고 결과 토픽으로 응답한다.
+ */
+final class FakeAuthResponder implements AutoCloseable {
+
+    private final KafkaConsumer<String, TokenDTO> consumer;
+    private final KafkaProducer<String, UserInfoDTO> producer;
+    private final RespServerStandIn redis;
+    private final DtoSerializer<UserInfoDTO> userInfoSerializer =
+            new DtoSerializer<>(UserInfoDTO.class, BinaryDtoCodec.userInfo(), SerializationFormat.JSON);
+    private final String resultTopic;
+    private final AtomicLong responded = new AtomicLong();
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    FakeAuthResponder(String bootstrapServers, String requestTopic, String resultTopic, RespServerStandIn redis) {
+        this.redis = redis;
+        this.resultTopic = resultTopic;
+        this.consumer = new KafkaConsumer<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, "fake-auth",
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest"),
+                new StringDeserializer(),
+                new DtoSerializer<>(TokenDTO.class, BinaryDtoCodec.token(), SerializationFormat.JSON));
+        this.producer = new KafkaProducer<>(Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ProducerConfig.LINGER_MS_CONFIG, 1),
+                new StringSerializer(),
+                userInfoSerializer);
+
+        consumer.subscribe(List.of(requestTopic));
+        this.worker = new Thread(this::run, "fake-auth-responder");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    long responded() {
+        return responded.get();
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                for (ConsumerRecord<String, TokenDTO> record : consumer.poll(Duration.ofMillis(20))) {
+                    TokenDTO tokenDTO = record.value();
+                    if (tokenDTO == null) {
+                        continue;
+                    }
+                    UserInfoDTO userInfo = new UserInfoDTO(tokenDTO.getId(),
+                            "user-" + Integer.toHexString(tokenDTO.getToken().hashCode()) + "@load.test",
+                            UserRoleEnum.USER.getRole(), tokenDTO.getToken());
+
+                    redis.set(REDIS_ACCESS_KEY + userInfo.getId(), userInfoSerializer.serialize(userInfo),
+                            Duration.ofSeconds(REDIS_ACCESS_TTL_SECONDS));
+                    producer.send(new ProducerRecord<>(resultTopic, userInfo.getId(), userInfo));
+                    responded.incrementAndGet();
+                }
+            }
+        } catch (WakeupException e) {
+            // 종료
+        } finally {
+            consumer.close();
+            producer.close();
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        consumer.wakeup();
+        worker.join(5_000);
+    }
+}
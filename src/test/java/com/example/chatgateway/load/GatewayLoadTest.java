@@ -0,0 +1,306 @@
+package com.example.chatgateway.load;
+
+import com.example.chatgateway.global.auth.FingerprintGenerator;
+import com.example.chatgateway.global.auth.UserInfoNearCache;
+import com.example.chatgateway.global.scheduler.BlockingOffload;
+import com.example.chatgateway.domain.dto.UserInfoDTO;
+import com.example.chatgateway.domain.entity.UserRoleEnum;
+import com.example.chatgateway.global.serializer.BinaryDtoCodec;
+import com.example.chatgateway.global.serializer.DtoSerializer;
+import com.example.chatgateway.global.serializer.SerializationFormat;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static com.example.chatgateway.global.constant.Constants.COOKIE_AUTH_HEADER;
+import static com.example.chatgateway.global.constant.Constants.REDIS_ACCESS_KEY;
+import static com.example.chatgateway.global.constant.Constants.REDIS_ACCESS_TTL_SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게이트웨이 부하/소크 테스트 (./gradlew loadTest, 기본 test 태스크에서는 제외)
+ * 임베디드 Kafka, 인프로세스 Redis 대역, 인증 서비스 대역, 하위 서비스 대역으로 게이트웨이 전체 경로를 실행하고
+ * 요청 유형별 RPS와 지연 시간 백분위를 출력한다.
+ *
+ * 시스템 프로퍼티 (./gradlew loadTest -Dload.duration=300 ...)
+ * - load.duration: 측정 시간(초, 기본 30), load.warmup: 워밍업 시간(초, 기본 5)
+ * - load.concurrency: 동시 요청 수 (기본 64)
+ * - load.mix: 요청 유형 비율 (기본 cached=70,uncached=15,invalid=10,websocket=5)
+ * - load.max-failure-rate: 허용 실패율 (기본 0.01)
+ * - load.request-timeout: 요청별 타임아웃(초, 기본 10, 넘으면 실패로 집계)
+ * - load.seed: 요청 유형/토큰 선택 난수 시드 (기본 42, 같은 시드면 작업자별 요청 순서가 같다)
+ * - load.blocking-lookup: 요청마다 넣는 가상의 블로킹 조회 (none 기본, inline: 이벤트 루프에서 블로킹, offload: BlockingOffload)
+ * - load.blocking-lookup-ms: 블로킹 조회 시간 (밀리초, 기본 5)
+ * - scheduler.blocking.virtual-threads=true: offload를 가상 스레드에서 실행 (Java 21 이상, -PjavaVersion=21)
+ */
+@Tag("load")
+@EmbeddedKafka(partitions = 4, topics = {GatewayLoadTest.REQUEST_TOPIC, GatewayLoadTest.RESULT_TOPIC},
+        bootstrapServersProperty = "kafka.uri")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "kafka.topic=" + GatewayLoadTest.REQUEST_TOPIC,
+        "kafka.group-id=gateway-load",
+        "kafka.instance-id=load-test",
+        "kafka.auto-offset-reset=earliest",
+        "cache.key=load-test-fingerprint-key",
+        "spring.data.redis.host=127.0.0.1",
+        "spring.data.redis.password=",
+        "jwt.pre-validation.enabled=true",
+        "auth.wait.timeout=3s",
+        "access-log.sample-rate=0",
+        "ws.auth.refresh-interval=10s",
+        // 캐시 토큰 1000개를 반복 사용하므로 요청 제한은 측정에 걸리지 않을 만큼 높게
+        "rate-limit.fingerprint.permits-per-second=10000",
+        "rate-limit.user.permits-per-second=10000"
+})
+class GatewayLoadTest {
+
+    static final String REQUEST_TOPIC = "authorization";
+    static final String RESULT_TOPIC = "auth";
+
+    private static final byte[] SECRET = "load-test-jwt-secret-0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+    private static final SecretKey SIGNING_KEY = Keys.hmacShaKeyFor(SECRET);
+    private static final SecretKey FORGED_KEY = Keys.hmacShaKeyFor("forged-jwt-secret-0123456789abcdefghij".getBytes(StandardCharsets.UTF_8));
+
+    private static final int CACHED_USERS = 1_000;
+
+    private static RespServerStandIn redis;
+    private static StubDownstream downstream;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Autowired
+    private FingerprintGenerator fingerprintGenerator;
+
+    @Autowired
+    private UserInfoNearCache userInfoNearCache;
+
+    @Autowired
+    private BlockingLookupFilter blockingLookupFilter;
+
+    @TestConfiguration
+    static class BlockingLookupConfig {
+
+        @Bean
+        BlockingLookupFilter blockingLookupFilter(BlockingOffload blockingOffload) {
+            return new BlockingLookupFilter(blockingOffload,
+                    BlockingLookupFilter.Mode.valueOf(System.getProperty("load.blocking-lookup", "none").toUpperCase()),
+                    Duration.ofMillis(Long.getLong("load.blocking-lookup-ms", 5)));
+        }
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws IOException {
+        redis = RespServerStandIn.start();
+        downstream = StubDownstream.start();
+
+        registry.add("spring.data.redis.port", redis::port);
+        registry.add("jwt.secret", () -> Base64.getEncoder().encodeToString(SECRET));
+        for (String route : List.of("user", "chat", "message", "ws", "participant")) {
+            registry.add("uri." + route, downstream::uri);
+        }
+    }
+
+    @AfterAll
+    static void stop() throws IOException {
+        downstream.close();
+        redis.close();
+    }
+
+    @Test
+    void load() throws Exception {
+        Duration duration = Duration.ofSeconds(Long.getLong("load.duration", 30));
+        Duration warmup = Duration.ofSeconds(Long.getLong("load.warmup", 5));
+        Duration requestTimeout = Duration.ofSeconds(Long.getLong("load.request-timeout", 10));
+        int concurrency = Integer.getInteger("load.concurrency", 64);
+        Map<String, Integer> mix = parseMix(System.getProperty("load.mix", "cached=70,uncached=15,invalid=10,websocket=5"));
+        double maxFailureRate = Double.parseDouble(System.getProperty("load.max-failure-rate", "0.01"));
+        SplittableRandom random = new SplittableRandom(Long.getLong("load.seed", 42));
+
+        List<String> cachedTokens = warmCache(random);
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("load")
+                .maxConnections(concurrency * 2)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + port)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .build();
+        ReactorNettyWebSocketClient webSocketClient = new ReactorNettyWebSocketClient(HttpClient.create(connectionProvider));
+
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        mix.keySet().forEach(type -> recorders.put(type, new LatencyRecorder(type)));
+        Map<String, LatencyRecorder> discarded = new LinkedHashMap<>();
+        mix.keySet().forEach(type -> discarded.put(type, new LatencyRecorder(type)));
+
+        try (FakeAuthResponder responder = new FakeAuthResponder(embeddedKafka.getBrokersAsString(),
+                REQUEST_TOPIC, RESULT_TOPIC, redis)) {
+            run(webClient, webSocketClient, cachedTokens, mix, discarded, concurrency, requestTimeout, warmup, random.split());
+
+            long start = System.nanoTime();
+            run(webClient, webSocketClient, cachedTokens, mix, recorders, concurrency, requestTimeout, duration, random.split());
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            report(recorders, elapsed, concurrency, responder.responded());
+        } finally {
+            connectionProvider.disposeLater().block();
+        }
+
+        long total = recorders.values().stream().mapToLong(LatencyRecorder::count).sum();
+        long failures = recorders.values().stream().mapToLong(LatencyRecorder::failures).sum();
+        assertThat(total).isPositive();
+        assertThat((double) failures / total).isLessThanOrEqualTo(maxFailureRate);
+    }
+
+    // 동시 요청 수만큼 작업자를 두고 기간 동안 요청 유형을 비율대로 골라 반복
+    // SplittableRandom은 스레드 안전하지 않으므로 작업자마다 split한 난수를 쓴다 (작업자 안에서는 요청이 순차 실행)
+    private void run(WebClient webClient, ReactorNettyWebSocketClient webSocketClient, List<String> cachedTokens,
+                     Map<String, Integer> mix, Map<String, LatencyRecorder> recorders, int concurrency, Duration requestTimeout,
+                     Duration duration, SplittableRandom random) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<String> types = new ArrayList<>();
+        mix.forEach((type, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                types.add(type);
+            }
+        });
+
+        Flux.range(0, concurrency)
+                .map(worker -> random.split())
+                .flatMap(workerRandom -> Mono.defer(() -> {
+                            String type = types.get(workerRandom.nextInt(types.size()));
+                            long start = System.nanoTime();
+                            return request(webClient, webSocketClient, cachedTokens, type, workerRandom)
+                                    .timeout(requestTimeout)
+                                    .onErrorReturn(false)
+                                    .doOnNext(success -> recorders.get(type).record(System.nanoTime() - start, success));
+                        })
+                        .repeat(() -> System.nanoTime() < deadline), concurrency)
+                .blockLast(duration.plus(requestTimeout).plusSeconds(30));
+    }
+
+    private Mono<Boolean> request(WebClient webClient, ReactorNettyWebSocketClient webSocketClient,
+                                  List<String> cachedTokens, String type, SplittableRandom random) {
+        return switch (type) {
+            // Redis 또는 로컬 캐시에 이미 있는 토큰
+            case "cached" -> get(webClient, randomCached(cachedTokens, random))
+                    .map(status -> status == 200);
+            // 처음 보는 토큰: Kafka 인증 요청 -> 인증 서비스 대역 응답
+            case "uncached" -> get(webClient, token(SIGNING_KEY, random))
+                    .map(status -> status == 200);
+            // 위조된 서명: 로컬 사전 검증에서 401
+            case "invalid" -> get(webClient, token(FORGED_KEY, random))
+                    .map(status -> status == 401);
+            // STOMP 웹소켓: 핸드셰이크 인증 후 한 프레임 왕복
+            case "websocket" -> {
+                HttpHeaders headers = new HttpHeaders();
+                headers.add(HttpHeaders.COOKIE, COOKIE_AUTH_HEADER + "=" + randomCached(cachedTokens, random));
+                yield webSocketClient.execute(URI.create("ws://127.0.0.1:" + port + "/stomp/chat/load"), headers,
+                                session -> session.send(Mono.just(session.textMessage("CONNECT")))
+                                        .thenMany(session.receive().take(1))
+                                        .then())
+                        .thenReturn(true);
+            }
+            default -> Mono.error(new IllegalArgumentException("알 수 없는 요청 유형: " + type));
+        };
+    }
+
+    private Mono<Integer> get(WebClient webClient, String token) {
+        return webClient.get()
+                .uri("/api/open-chats/1")
+                .cookie(COOKIE_AUTH_HEADER, token)
+                .exchangeToMono(response -> response.releaseBody()
+                        .thenReturn(response.statusCode().value()));
+    }
+
+    // 캐시 히트용 토큰을 인증 서비스가 저장한 것처럼 Redis 대역에 미리 넣어 둔다
+    private List<String> warmCache(SplittableRandom random) {
+        DtoSerializer<UserInfoDTO> serializer =
+                new DtoSerializer<>(UserInfoDTO.class, BinaryDtoCodec.userInfo(), SerializationFormat.JSON);
+        List<String> tokens = new ArrayList<>(CACHED_USERS);
+
+        for (int i = 0; i < CACHED_USERS; i++) {
+            String token = token(SIGNING_KEY, random);
+            String id = fingerprintGenerator.create(token);
+            UserInfoDTO userInfo = new UserInfoDTO(id, "cached-" + i + "@load.test", UserRoleEnum.USER.getRole(), token);
+            redis.set(REDIS_ACCESS_KEY + id, serializer.serialize(userInfo), Duration.ofSeconds(REDIS_ACCESS_TTL_SECONDS));
+            tokens.add(token);
+        }
+        return tokens;
+    }
+
+    private void report(Map<String, LatencyRecorder> recorders, Duration elapsed, int concurrency, long responded) {
+        StringBuilder report = new StringBuilder()
+                .append(String.format("%n== gateway load test: %ds, concurrency %d ==%n", elapsed.toSeconds(), concurrency))
+                .append(LatencyRecorder.header()).append('\n');
+        recorders.values().forEach(recorder -> report.append(recorder.summary(elapsed)).append('\n'));
+
+        long total = recorders.values().stream().mapToLong(LatencyRecorder::count).sum();
+        report.append(String.format("total rps %.1f, auth responses %d, near cache size %d, blocking lookup %s%n",
+                total / (elapsed.toNanos() / 1e9), responded, userInfoNearCache.size(), blockingLookupFilter.describe()));
+
+        System.out.print(report);
+    }
+
+    private static String token(SecretKey key, SplittableRandom random) {
+        Date now = new Date();
+        return Jwts.builder()
+                .subject("user-" + random.nextInt(1_000_000) + "@load.test")
+                .id(UUID.randomUUID().toString())
+                .claim("auth", UserRoleEnum.USER.getRole())
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + Duration.ofHours(1).toMillis()))
+                .signWith(key)
+                .compact();
+    }
+
+    private static String randomCached(List<String> cachedTokens, SplittableRandom random) {
+        return cachedTokens.get(random.nextInt(cachedTokens.size()));
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] entry = part.trim().split("=");
+            weights.put(entry[0].trim(), Integer.parseInt(entry[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.chatgateway.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+// 요청 유형별 지연 시간, 성공/실패 수 집계
+final class LatencyRecorder {
+
+    private final String name;
+    private long[] samples = new long[1 << 16];
+    private int size;
+    private long failures;
+
+    LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    synchronized void record(long nanos, boolean success) {
+        if (!success) {
+            failures++;
+        }
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    synchronized long count() {
+        return size;
+    }
+
+    synchronized long failures() {
+        return failures;
+    }
+
+    synchronized String summary(Duration elapsed) {
+        if (size == 0) {
+            return String.format("%-10s %8s", name, "-");
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        double rps = size / (elapsed.toNanos() / 1e9);
+
+        return String.format("%-10s %8d %10.1f %8d %9.2f %9.2f %9.2f %9.2f",
+                name, size, rps, failures,
+                millis(sorted, 0.50), millis(sorted, 0.90), millis(sorted, 0.99), sorted[size - 1] / 1e6);
+    }
+
+    static String header() {
+        return String.format("%-10s %8s %10s %8s %9s %9s %9s %9s",
+                "type", "requests", "rps", "failed", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,303 @@
+package com.example.chatgateway.load;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 테스트용 인프로세스 Redis 대역 (RESP2, 부하 테스트와 컨텍스트 테스트에서 사용)
+ * 게이트웨이가 쓰는 명령만 지원한다: GET, SET(EX/PX/NX), INCRBY, DEL, EXISTS, PUBLISH, SUBSCRIBE, PING
+ * HELLO에는 에러로 응답해서 Lettuce가 RESP2로 내려오게 한다.
+ */
+public final class RespServerStandIn implements AutoCloseable {
+
+    private record Entry(byte[] value, long expiresAt) {
+        boolean isExpired(long now) {
+            return expiresAt > 0 && expiresAt <= now;
+        }
+    }
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "resp-stand-in");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ConcurrentMap<String, Entry> values = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<Connection>> subscribers = new ConcurrentHashMap<>();
+
+    private RespServerStandIn(ServerSocket serverSocket) {
+        this.serverSocket = serverSocket;
+    }
+
+    public static RespServerStandIn start() throws IOException {
+        RespServerStandIn server = new RespServerStandIn(new ServerSocket(0, 512, InetAddress.getLoopbackAddress()));
+        server.executor.execute(server::acceptLoop);
+        return server;
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    // 인증 서비스 대역이 직접 쓰는 경로
+    void set(String key, byte[] value, Duration ttl) {
+        values.put(key, new Entry(value, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                executor.execute(new Connection(socket)::serve);
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private final class Connection {
+        private final Socket socket;
+        private final OutputStream out;
+        private final Set<String> channels = ConcurrentHashMap.newKeySet();
+
+        private Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.out = new BufferedOutputStream(socket.getOutputStream());
+        }
+
+        private void serve() {
+            try (socket) {
+                InputStream in = new BufferedInputStream(socket.getInputStream());
+                while (true) {
+                    List<byte[]> command = readCommand(in);
+                    handle(command);
+                    // 파이프라이닝된 명령이 남아 있으면 모아서 보낸다
+                    if (in.available() == 0) {
+                        flush();
+                    }
+                }
+            } catch (IOException e) {
+                // 연결 종료
+            } finally {
+                channels.forEach(channel -> subscribers.computeIfPresent(channel, (key, connections) -> {
+                    connections.remove(this);
+                    return connections.isEmpty() ? null : connections;
+                }));
+            }
+        }
+
+        private void handle(List<byte[]> command) throws IOException {
+            String name = string(command.get(0)).toUpperCase(Locale.ROOT);
+            long now = System.currentTimeMillis();
+
+            switch (name) {
+                case "PING" -> writeSimple("PONG");
+                case "HELLO" -> writeError("ERR unknown command 'HELLO'");
+                case "CLIENT", "SELECT", "AUTH" -> writeSimple("OK");
+                case "GET" -> {
+                    Entry entry = values.get(string(command.get(1)));
+                    if (entry == null || entry.isExpired(now)) {
+                        writeNull();
+                    } else {
+                        writeBulk(entry.value());
+                    }
+                }
+                case "SET" -> {
+                    long expiresAt = 0;
+                    boolean ifAbsent = false;
+                    for (int i = 3; i < command.size(); i++) {
+                        String option = string(command.get(i)).toUpperCase(Locale.ROOT);
+                        if (option.equals("NX")) {
+                            ifAbsent = true;
+                        } else if (option.equals("EX") && i + 1 < command.size()) {
+                            expiresAt = now + Long.parseLong(string(command.get(++i))) * 1000;
+                        } else if (option.equals("PX") && i + 1 < command.size()) {
+                            expiresAt = now + Long.parseLong(string(command.get(++i)));
+                        }
+                    }
+                    Entry entry = new Entry(command.get(2), expiresAt);
+                    if (!ifAbsent) {
+                        values.put(string(command.get(1)), entry);
+                        writeSimple("OK");
+                    } else if (values.compute(string(command.get(1)),
+                            (key, old) -> old == null || old.isExpired(now) ? entry : old) == entry) {
+                        writeSimple("OK");
+                    } else {
+                        writeNull();
+                    }
+                }
+                case "INCRBY" -> {
+                    long delta = Long.parseLong(string(command.get(2)));
+                    Entry updated = values.compute(string(command.get(1)), (key, old) -> {
+                        boolean live = old != null && !old.isExpired(now);
+                        long value = (live ? Long.parseLong(string(old.value())) : 0) + delta;
+                        return new Entry(Long.toString(value).getBytes(StandardCharsets.US_ASCII), live ? old.expiresAt() : 0);
+                    });
+                    writeInteger(Long.parseLong(string(updated.value())));
+                }
+                case "DEL", "EXISTS" -> {
+                    long count = 0;
+                    for (int i = 1; i < command.size(); i++) {
+                        String key = string(command.get(i));
+                        Entry entry = name.equals("DEL") ? values.remove(key) : values.get(key);
+                        if (entry != null && !entry.isExpired(now)) {
+                            count++;
+                        }
+                    }
+                    writeInteger(count);
+                }
+                case "PUBLISH" -> {
+                    String channel = string(command.get(1));
+                    Set<Connection> connections = subscribers.getOrDefault(channel, Set.of());
+                    for (Connection connection : connections) {
+                        connection.push(channel, command.get(2));
+                    }
+                    writeInteger(connections.size());
+                }
+                case "SUBSCRIBE" -> {
+                    for (int i = 1; i < command.size(); i++) {
+                        String channel = string(command.get(i));
+                        channels.add(channel);
+                        subscribers.computeIfAbsent(channel, key -> ConcurrentHashMap.newKeySet()).add(this);
+                        writeSubscription("subscribe", channel);
+                    }
+                }
+                case "UNSUBSCRIBE" -> {
+                    List<String> targets = new ArrayList<>();
+                    for (int i = 1; i < command.size(); i++) {
+                        targets.add(string(command.get(i)));
+                    }
+                    if (targets.isEmpty()) {
+                        targets.addAll(channels);
+                    }
+                    for (String channel : targets) {
+                        channels.remove(channel);
+                        subscribers.computeIfPresent(channel, (key, connections) -> {
+                            connections.remove(this);
+                            return connections.isEmpty() ? null : connections;
+                        });
+                        writeSubscription("unsubscribe", channel);
+                    }
+                }
+                case "QUIT" -> {
+                    writeSimple("OK");
+                    flush();
+                    socket.close();
+                }
+                default -> writeError("ERR unknown command '" + name + "'");
+            }
+        }
+
+        private synchronized void push(String channel, byte[] message) throws IOException {
+            out.write("*3\r\n".getBytes(StandardCharsets.US_ASCII));
+            writeBulk("message".getBytes(StandardCharsets.UTF_8));
+            writeBulk(channel.getBytes(StandardCharsets.UTF_8));
+            writeBulk(message);
+            out.flush();
+        }
+
+        private synchronized void writeSubscription(String kind, String channel) throws IOException {
+            out.write("*3\r\n".getBytes(StandardCharsets.US_ASCII));
+            writeBulk(kind.getBytes(StandardCharsets.UTF_8));
+            writeBulk(channel.getBytes(StandardCharsets.UTF_8));
+            writeInteger(channels.size());
+        }
+
+        private synchronized void writeSimple(String value) throws IOException {
+            out.write(("+" + value + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        }
+
+        private synchronized void writeError(String message) throws IOException {
+            out.write(("-" + message + "\r\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        private synchronized void writeInteger(long value) throws IOException {
+            out.write((":" + value + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        }
+
+        private synchronized void writeNull() throws IOException {
+            out.write("$-1\r\n".getBytes(StandardCharsets.US_ASCII));
+        }
+
+        private synchronized void writeBulk(byte[] value) throws IOException {
+            out.write(("$" + value.length + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.write(value);
+            out.write('\r');
+            out.write('\n');
+        }
+
+        private synchronized void flush() throws IOException {
+            out.flush();
+        }
+    }
+
+    // *<n>\r\n ($<len>\r\n<bytes>\r\n) x n
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        int marker = in.read();
+        if (marker < 0) {
+            throw new EOFException();
+        }
+        if (marker != '*') {
+            throw new IOException("RESP 배열이 아님: " + (char) marker);
+        }
+
+        int count = (int) readNumber(in);
+        List<byte[]> command = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (in.read() != '$') {
+                throw new IOException("RESP bulk string이 아님");
+            }
+            int length = (int) readNumber(in);
+            command.add(in.readNBytes(length));
+            in.skipNBytes(2);
+        }
+        return command;
+    }
+
+    private static long readNumber(InputStream in) throws IOException {
+        long value = 0;
+        boolean negative = false;
+        int b;
+        while ((b = in.read()) != '\r') {
+            if (b < 0) {
+                throw new EOFException();
+            }
+            if (b == '-') {
+                negative = true;
+            } else {
+                value = value * 10 + (b - '0');
+            }
+        }
+        in.read(); // \n
+        return negative ? -value : value;
+    }
+
+    private static String string(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.chatgateway.load;
+
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.WebsocketServerSpec;
+
+/**
+ * 하위 서비스 대역 (user, chat, message, participant 라우트 공용)
+ * HTTP 요청은 200 "ok", /stomp/** 웹소켓은 첫 프레임을 그대로 돌려준 뒤 종료한다.
+ */
+final class StubDownstream implements AutoCloseable {
+
+    private final DisposableServer server;
+
+    private StubDownstream(DisposableServer server) {
+        this.server = server;
+    }
+
+    static StubDownstream start() {
+        DisposableServer server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes
+                        .ws(request -> request.uri().startsWith("/stomp/"),
+                                (in, out) -> out.sendString(in.receive().asString().take(1)),
+                                WebsocketServerSpec.builder().build())
+                        .route(request -> true,
+                                (request, response) -> response.sendString(Mono.just("ok"))))
+                .bindNow();
+        return new StubDownstream(server);
+    }
+
+    String uri() {
+        return "http://127.0.0.1:" + server.port();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+}